@@ -35,6 +35,10 @@
     // Testing dependencies
     testImplementation(libs.testng)
     testImplementation(libs.lang)
+    testImplementation(libs.spigot.api) {
+        exclude("junit")
+        exclude("org.yaml", "snakeyaml")
+    }
 
     // Code generation
     compileOnly(libs.lombok)
@@ -27,6 +27,7 @@
 import co.crystaldev.alpinecore.integration.PlaceholderIntegration;
 import co.crystaldev.alpinecore.integration.VaultIntegration;
 import co.crystaldev.alpinecore.util.ChatColor;
+import co.crystaldev.alpinecore.util.ComponentCache;
 import co.crystaldev.alpinecore.util.SimpleTimer;
 import co.crystaldev.alpinecore.util.StyleTagResolver;
 import com.google.common.collect.ImmutableSet;
@@ -102,6 +103,12 @@ public abstract class AlpinePlugin extends JavaPlugin implements Listener {
     /** Strict MiniMessage curated by this plugin. */
     private MiniMessage strictMiniMessage = MiniMessage.builder().strict(true).build();
 
+    /** Cache of components deserialized by {@link #miniMessage}. */
+    private ComponentCache componentCache = new ComponentCache(this, this.miniMessage);
+
+    /** Cache of components deserialized by {@link #strictMiniMessage}. */
+    private ComponentCache strictComponentCache = new ComponentCache(this, this.strictMiniMessage);
+
     // region Abstract methods
 
     /**
@@ -253,10 +260,17 @@ public final void onEnable() {
         // Activate all activatables
         this.activateAll();
 
+        // Reload configurations when modified, if enabled
+        if (this.pluginConfig.reloadConfigsOnChange) {
+            this.configManager.startWatching();
+        }
+
         // Setup plugin MiniMessage instances
         TagResolver resolver = TagResolver.resolver(TagResolver.standard(), new StyleTagResolver(this));
         this.miniMessage = this.setupMiniMessage(MiniMessage.builder().tags(resolver));
         this.strictMiniMessage = this.setupMiniMessage(MiniMessage.builder().tags(resolver).strict(true));
+        this.componentCache = new ComponentCache(this, this.miniMessage);
+        this.strictComponentCache = new ComponentCache(this, this.strictMiniMessage);
 
         // Initialize the command manager
         this.setupCommandManager();
@@ -276,6 +290,9 @@ public final void onDisable() {
         // Hand off to the plugin
         this.onStop();
 
+        // Stop reloading configurations
+        this.configManager.stopWatching();
+
         // Deactivate all activatables
         this.deactivateAll();
 
@@ -436,7 +453,7 @@ private void activateAll() {
             this.log("&cError scanning classpath", ex);
         }
 
-        this.activate(classes, c -> AlpineConfig.class.isAssignableFrom(c) && !AlpinePluginConfig.class.isAssignableFrom(c));
+        this.activateConfigs(classes);
         this.activate(classes, AlpineIntegration.class::isAssignableFrom);
         this.activate(classes, AlpineEngine.class::isAssignableFrom);
         this.activate(classes, AlpineArgumentResolver.class::isAssignableFrom);
@@ -537,39 +554,79 @@ private void activate(@NotNull Set<Class<?>> classes, @NotNull Predicate<Class<?
                 continue;
             }
 
-            try {
-                Activatable activatable;
+            Activatable activatable = this.instantiate(clazz);
+            if (activatable != null) {
+                this.initialize(activatable);
+            }
 
-                try {
-                    Constructor<? extends Activatable> constructor = ((Class<? extends Activatable>) clazz).getDeclaredConstructor(AlpinePlugin.class);
-                    constructor.setAccessible(true);
-                    activatable = constructor.newInstance(this);
-                }
-                catch (NoSuchMethodException ex) {
-                    Constructor<? extends Activatable> constructor = ((Class<? extends Activatable>) clazz).getDeclaredConstructor();
-                    constructor.setAccessible(true);
-                    activatable = constructor.newInstance();
-                }
+            classes.remove(clazz);
+        }
+    }
 
-                // Initialize the activatable
-                if (activatable instanceof Initializable) {
-                    Initializable initializable = (Initializable) activatable;
-                    if (initializable.init()) {
-                        // Successfully initialized, activate
-                        activatable.activate(this);
-                        this.activatables.add(activatable);
-                    }
-                }
-                else {
+    private void activateConfigs(@NotNull Set<Class<?>> classes) {
+        List<AlpineConfig> configs = new ArrayList<>();
+        for (Class<?> clazz : new HashSet<>(classes)) {
+            if (!AlpineConfig.class.isAssignableFrom(clazz) || AlpinePluginConfig.class.isAssignableFrom(clazz)
+                    || Modifier.isAbstract(clazz.getModifiers())) {
+                continue;
+            }
+
+            Activatable activatable = this.instantiate(clazz);
+            if (activatable != null) {
+                configs.add((AlpineConfig) activatable);
+            }
+
+            classes.remove(clazz);
+        }
+
+        // Parse configurations in parallel, they are registered as they activate
+        if (configs.size() > 1) {
+            this.configManager.preloadConfigs(configs);
+        }
+
+        for (AlpineConfig config : configs) {
+            this.initialize(config);
+        }
+        this.configManager.discardPreloadedConfigs();
+    }
+
+    private @Nullable Activatable instantiate(@NotNull Class<?> clazz) {
+        try {
+            try {
+                Constructor<? extends Activatable> constructor = ((Class<? extends Activatable>) clazz).getDeclaredConstructor(AlpinePlugin.class);
+                constructor.setAccessible(true);
+                return constructor.newInstance(this);
+            }
+            catch (NoSuchMethodException ex) {
+                Constructor<? extends Activatable> constructor = ((Class<? extends Activatable>) clazz).getDeclaredConstructor();
+                constructor.setAccessible(true);
+                return constructor.newInstance();
+            }
+        }
+        catch (Exception ex) {
+            this.log(String.format("&cError activating &d%s", clazz.getSimpleName()), ex);
+            return null;
+        }
+    }
+
+    private void initialize(@NotNull Activatable activatable) {
+        try {
+            // Initialize the activatable
+            if (activatable instanceof Initializable) {
+                Initializable initializable = (Initializable) activatable;
+                if (initializable.init()) {
+                    // Successfully initialized, activate
                     activatable.activate(this);
                     this.activatables.add(activatable);
                 }
             }
-            catch (Exception ex) {
-                this.log(String.format("&cError activating &d%s", clazz.getSimpleName()), ex);
+            else {
+                activatable.activate(this);
+                this.activatables.add(activatable);
             }
-
-            classes.remove(clazz);
+        }
+        catch (Exception ex) {
+            this.log(String.format("&cError activating &d%s", activatable.getClass().getSimpleName()), ex);
         }
     }
 
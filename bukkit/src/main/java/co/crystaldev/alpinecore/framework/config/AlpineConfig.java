@@ -15,6 +15,8 @@
 import lombok.NoArgsConstructor;
 import org.jetbrains.annotations.NotNull;
 
+import java.io.Serializable;
+
 /**
  * A wrapper around ConfigLib to allow for
  * automatic activation by the framework.
@@ -27,7 +29,7 @@
  */
 @NoArgsConstructor @Getter
 @Configuration
-public abstract class AlpineConfig implements Activatable {
+public abstract class AlpineConfig implements Activatable, Serializable {
 
     private transient boolean active;
 
@@ -86,6 +86,38 @@ public AlpinePluginConfig() {
     })
     public HashMap<String, String> variables = new LinkedHashMap<>();
 
+    @Comment({
+            "",
+            "How long resolved PlaceholderAPI values are reused for each player, in milliseconds.",
+            "Keyed by placeholder identifier, with 'default' applying to every other identifier.",
+            "Relational placeholders are never reused.",
+            " ",
+            "Example usage:",
+            " ",
+            "placeholderCacheDurations:",
+            "  default: 0",
+            "  player: 1000",
+            "  vault: 5000"
+    })
+    public HashMap<String, Long> placeholderCacheDurations = new LinkedHashMap<>();
+    {
+        this.placeholderCacheDurations.put("default", 0L);
+    }
+
+    @Comment({
+            "",
+            "Whether this plugin's configuration files are reloaded automatically when modified on disk.",
+            "Only configurations registered with the plugin are reloaded, not this configuration."
+    })
+    public boolean reloadConfigsOnChange = false;
+
+    @Comment({
+            "",
+            "Whether loaded configurations are cached as binary snapshots, which are restored",
+            "instead of parsing configuration files that have not changed since the last startup."
+    })
+    public boolean cacheConfigSnapshots = false;
+
     @Comment({
             "",
             "Plugin Messages"
@@ -21,9 +21,11 @@
 import java.nio.file.Path;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.function.Supplier;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 /**
@@ -70,18 +72,24 @@ private ConfigLoader(@NotNull AlpinePlugin plugin, @NotNull Class<T> configClass
         }
 
         YamlConfigurationProperties properties = plugin.getConfigManager().properties;
+        List<Path> files;
         try (Stream<Path> stream = Files.list(this.directory)) {
-            stream.filter(path -> Files.isRegularFile(path) && path.toString().endsWith(".yml")).forEach(file -> {
-                T config = YamlConfigurations.load(file, this.configClass, properties);
-                String fileName = file.getFileName().toString();
-                String configName = fileName.substring(0, fileName.lastIndexOf("."));
-                this.configRegistry.put(configName, config);
-            });
+            files = stream.filter(path -> Files.isRegularFile(path) && path.toString().endsWith(".yml"))
+                    .collect(Collectors.toList());
         }
         catch (IOException ex) {
             throw new IllegalStateException("Unable to load dynamic configuration", ex);
         }
 
+        // Each file is independent, so they are parsed in parallel
+        Map<Path, T> loaded = ParallelConfigLoader.loadAll(plugin, files, file -> file.getFileName().toString(),
+                file -> YamlConfigurations.load(file, this.configClass, properties));
+        loaded.forEach((file, config) -> {
+            String fileName = file.getFileName().toString();
+            String configName = fileName.substring(0, fileName.lastIndexOf("."));
+            this.configRegistry.put(configName, config);
+        });
+
         if (createdDirectory) {
             defaultConfigs.forEach((name, supplier) -> {
                 T config = supplier.get();
@@ -14,17 +14,30 @@
 import com.cryptomorin.xseries.*;
 import de.exlll.configlib.BukkitBundle;
 import de.exlll.configlib.YamlConfigurationProperties;
+import de.exlll.configlib.YamlConfigurationStore;
 import de.exlll.configlib.YamlConfigurations;
 import lombok.Getter;
+import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.NotNull;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.function.Consumer;
 
 /**
@@ -37,14 +50,29 @@
 @SuppressWarnings({"unchecked", "rawtypes", "unused"})
 public final class ConfigManager {
 
+    private final AlpinePlugin plugin;
+
     @Getter
     private final Path rootDirectory;
-    private final Map<Class<? extends AlpineConfig>, AlpineConfig> registeredConfigurations = new HashMap<>();
+    private final Map<Class<? extends AlpineConfig>, AlpineConfig> registeredConfigurations = new ConcurrentHashMap<>();
+    private final Map<Class<? extends AlpineConfig>, List<Consumer<AlpineConfig>>> subscribers = new ConcurrentHashMap<>();
+
+    /** Configurations loaded ahead of registration, keyed by the instance they were loaded from */
+    private final Map<AlpineConfig, AlpineConfig> preloadedConfigurations = new IdentityHashMap<>();
+
+    /** Failures to load configurations ahead of registration, keyed by the instance they were loaded from */
+    private final Map<AlpineConfig, RuntimeException> preloadFailures = new IdentityHashMap<>();
 
     public final YamlConfigurationProperties properties;
 
+    private final ConfigSnapshotCache snapshotCache;
+
+    private ConfigWatcher watcher;
+
     public ConfigManager(@NotNull AlpinePlugin plugin, @NotNull SerializerRegistry serializerRegistry) {
+        this.plugin = plugin;
         this.rootDirectory = plugin.getDataFolder().toPath();
+        this.snapshotCache = new ConfigSnapshotCache(this.rootDirectory.resolve(".snapshots"), plugin.getClass());
 
         // Ensure the root directory exists
         if (!Files.exists(this.rootDirectory)) {
@@ -115,14 +143,55 @@ public ConfigManager(@NotNull AlpinePlugin plugin, @NotNull SerializerRegistry s
 
     /**
      * Loads the specified configuration by resolving its file path and updating it using the properties.
+     * <p>
+     * The file is only rewritten if its content would change. If enabled with
+     * {@link AlpinePluginConfig#cacheConfigSnapshots}, a configuration whose file
+     * is unchanged since it was last loaded is restored from a binary snapshot.
      *
      * @param config the configuration object to be loaded
      * @return the updated configuration object
      */
     public <T extends AlpineConfig> @NotNull T loadConfig(@NotNull T config) {
         Path file = this.rootDirectory.resolve(Paths.get(config.getFileName()));
-        Class<? extends AlpineConfig> clazz = config.getClass();
-        return (T) YamlConfigurations.update(file, clazz, this.properties);
+        Class<T> clazz = (Class<T>) config.getClass();
+        YamlConfigurationStore<T> store = new YamlConfigurationStore<>(clazz, this.properties);
+        if (!Files.exists(file)) {
+            return store.update(file);
+        }
+
+        try {
+            byte[] current = Files.readAllBytes(file);
+            byte[] currentHash = hash(current);
+
+            // Restore the configuration without parsing it if the file is unchanged
+            boolean snapshot = this.isSnapshotting();
+            if (snapshot) {
+                T restored = this.snapshotCache.read(config.getFileName(), currentHash, clazz);
+                if (restored != null) {
+                    return restored;
+                }
+            }
+
+            T loaded = store.read(new ByteArrayInputStream(current));
+
+            // The file is only written back to if serializing it would change its
+            // content, such as when new fields or defaults were added
+            ByteArrayOutputStream serialized = new ByteArrayOutputStream(current.length);
+            store.write(loaded, serialized);
+            byte[] updated = serialized.toByteArray();
+            byte[] updatedHash = hash(updated);
+            if (!Arrays.equals(currentHash, updatedHash)) {
+                Files.write(file, updated);
+            }
+
+            if (snapshot) {
+                this.snapshotCache.write(config.getFileName(), updatedHash, loaded);
+            }
+            return loaded;
+        }
+        catch (IOException ex) {
+            throw new IllegalStateException("Unable to load configuration " + file, ex);
+        }
     }
 
     /**
@@ -132,12 +201,58 @@ public ConfigManager(@NotNull AlpinePlugin plugin, @NotNull SerializerRegistry s
      * @return the registered and loaded configuration object
      */
     public <T extends AlpineConfig> @NotNull T registerConfig(@NotNull T config) {
-        config = this.loadConfig(config);
+        RuntimeException failure = this.preloadFailures.remove(config);
+        if (failure != null) {
+            throw failure;
+        }
+
+        AlpineConfig preloaded = this.preloadedConfigurations.remove(config);
+        config = preloaded != null ? (T) preloaded : this.loadConfig(config);
         Class<? extends AlpineConfig> clazz = config.getClass();
         this.registeredConfigurations.put(clazz, config);
         return config;
     }
 
+    /**
+     * Loads the specified configuration objects in parallel, ahead of their registration.
+     * <p>
+     * Each configuration is independent, so they are parsed concurrently and the
+     * time taken to load each is logged. The loaded configurations are held until
+     * {@link #registerConfig(AlpineConfig)} is called on the main thread with the
+     * same instance. If a configuration fails to load, its exception is instead
+     * thrown once it is registered, so that its error is reported as usual.
+     *
+     * @param configs the configuration objects to be loaded
+     * @since 0.4.10
+     */
+    @ApiStatus.Internal
+    public void preloadConfigs(@NotNull Collection<? extends AlpineConfig> configs) {
+        Map<AlpineConfig, RuntimeException> failures = Collections.synchronizedMap(new IdentityHashMap<>());
+        Map<AlpineConfig, AlpineConfig> loaded = ParallelConfigLoader.loadAll(this.plugin, configs, AlpineConfig::getFileName, config -> {
+            try {
+                return this.loadConfig(config);
+            }
+            catch (RuntimeException ex) {
+                failures.put(config, ex);
+                return null;
+            }
+        });
+        this.preloadedConfigurations.putAll(loaded);
+        this.preloadFailures.putAll(failures);
+    }
+
+    /**
+     * Discards any preloaded configurations which were never registered.
+     *
+     * @see #preloadConfigs(Collection)
+     * @since 0.4.10
+     */
+    @ApiStatus.Internal
+    public void discardPreloadedConfigs() {
+        this.preloadedConfigurations.clear();
+        this.preloadFailures.clear();
+    }
+
     /**
      * Edits the specified configuration object using the provided consumer.
      * The configuration is first registered and loaded, then passed to the consumer for modifications.
@@ -155,6 +270,134 @@ public ConfigManager(@NotNull AlpinePlugin plugin, @NotNull SerializerRegistry s
         return config;
     }
 
+    /**
+     * Reloads the configuration of the specified class from disk, replacing the
+     * registered instance and notifying any subscribers.
+     * <p>
+     * Unlike {@link #loadConfig(AlpineConfig)}, the file is not written back to.
+     *
+     * @param clazz the class object of the configuration to reload
+     * @return the reloaded configuration object
+     * @throws IllegalStateException if there is no configuration registered for the specified type
+     * @since 0.4.10
+     */
+    public <T extends AlpineConfig> @NotNull T reloadConfig(@NotNull Class<T> clazz) {
+        T config = this.parseConfig(clazz);
+        this.replaceConfig(config);
+        return config;
+    }
+
+    /**
+     * Subscribes to reloads of the configuration of the specified class.
+     * <p>
+     * Subscribers are notified on the main thread with the new instance, after it
+     * has replaced the registered instance. Anything derived from the previous
+     * instance, such as cached or compiled values, should be discarded.
+     *
+     * @param clazz    the class object of the configuration
+     * @param listener the listener to notify
+     * @since 0.4.10
+     */
+    public <T extends AlpineConfig> void subscribe(@NotNull Class<T> clazz, @NotNull Consumer<? super T> listener) {
+        this.subscribers.computeIfAbsent(clazz, k -> new CopyOnWriteArrayList<>()).add((Consumer<AlpineConfig>) listener);
+    }
+
+    /**
+     * Begins watching the files of every registered configuration, reloading
+     * them whenever they are modified.
+     *
+     * @see #reloadConfig(Class)
+     * @since 0.4.10
+     */
+    public void startWatching() {
+        if (this.watcher != null) {
+            return;
+        }
+
+        try {
+            this.watcher = new ConfigWatcher(this.plugin, this);
+            this.watcher.start();
+        }
+        catch (IOException ex) {
+            this.plugin.log("Unable to watch configuration files for changes", ex);
+            this.stopWatching();
+        }
+    }
+
+    /**
+     * Stops watching configuration files for changes.
+     *
+     * @since 0.4.10
+     */
+    public void stopWatching() {
+        if (this.watcher != null) {
+            this.watcher.stop();
+            this.watcher = null;
+        }
+    }
+
+    /**
+     * Parses the configuration of the specified class from disk, without registering it.
+     */
+    <T extends AlpineConfig> @NotNull T parseConfig(@NotNull Class<T> clazz) {
+        T registered = this.getConfig(clazz);
+        Path file = this.rootDirectory.resolve(Paths.get(registered.getFileName()));
+        return YamlConfigurations.load(file, clazz, this.properties);
+    }
+
+    /**
+     * Swaps in a new instance of a registered configuration and notifies its subscribers.
+     */
+    void replaceConfig(@NotNull AlpineConfig config) {
+        Class<? extends AlpineConfig> clazz = config.getClass();
+        if (this.registeredConfigurations.replace(clazz, config) == null) {
+            return;
+        }
+
+        for (Consumer<AlpineConfig> listener : this.subscribers.getOrDefault(clazz, Collections.emptyList())) {
+            try {
+                listener.accept(config);
+            }
+            catch (Exception ex) {
+                this.plugin.log("Unable to notify subscriber of reloaded configuration " + config.getFileName(), ex);
+            }
+        }
+    }
+
+    /**
+     * Determines whether loaded configurations are snapshotted. The plugin
+     * configuration is loaded before this can be determined, so it is never
+     * snapshotted.
+     */
+    private boolean isSnapshotting() {
+        AlpinePluginConfig pluginConfig = this.plugin.getAlpineConfig();
+        return pluginConfig != null && pluginConfig.cacheConfigSnapshots;
+    }
+
+    /**
+     * Computes the SHA-256 hash of the given content.
+     */
+    static @NotNull byte[] hash(@NotNull byte[] content) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(content);
+        }
+        catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    /**
+     * Maps the file of every registered configuration to its class.
+     */
+    @NotNull Map<Path, Class<? extends AlpineConfig>> getConfigFiles() {
+        Map<Path, Class<? extends AlpineConfig>> files = new HashMap<>();
+        this.registeredConfigurations.forEach((clazz, config) -> {
+            Path file = this.rootDirectory.resolve(Paths.get(config.getFileName())).toAbsolutePath().normalize();
+            files.put(file, clazz);
+        });
+        return files;
+    }
+
     /**
      * Unregisters and removes the specified configuration object.
      *
@@ -0,0 +1,235 @@
+/*
+ * This file is part of AlpineCore - https://github.com/alpine-network/alpine-core
+ * Copyright (C) 2025 Crystal Development, LLC
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+package co.crystaldev.alpinecore.framework.config;
+
+import co.crystaldev.alpinecore.AlpinePlugin;
+import com.cryptomorin.xseries.XMaterial;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InvalidClassException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamClass;
+import java.io.OutputStream;
+import java.io.Serializable;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Caches binary snapshots of loaded configurations, keyed by the hash of
+ * the file they were loaded from.
+ * <p>
+ * While the file is unchanged, its configuration is restored from the
+ * snapshot rather than being parsed from YAML. Only configurations whose
+ * entire object graph is {@link Serializable} can be snapshotted; any
+ * other configuration is always parsed. A snapshot which cannot be read,
+ * such as after the configuration class changed, is treated as missing.
+ * <p>
+ * Snapshots may only name classes from {@code java.*}, XSeries, AlpineCore,
+ * the owning plugin and the package of the configuration itself. A snapshot
+ * naming any other class is rejected, so that a tampered snapshot cannot be
+ * used to instantiate arbitrary classes.
+ *
+ * @since 0.4.10
+ */
+@ApiStatus.Internal
+final class ConfigSnapshotCache {
+
+    /** Incremented whenever the layout of a snapshot changes */
+    private static final int FORMAT_VERSION = 1;
+
+    /** Packages whose classes may always be restored from a snapshot */
+    private static final List<String> TRUSTED_PACKAGES = Arrays.asList(
+            "java.",
+            packageOf(XMaterial.class),
+            packageOf(AlpinePlugin.class)
+    );
+
+    private final Path directory;
+
+    /** The package of the owning plugin */
+    private final String pluginPackage;
+
+    ConfigSnapshotCache(@NotNull Path directory, @NotNull Class<?> pluginClass) {
+        this.directory = directory;
+        this.pluginPackage = packageOf(pluginClass);
+    }
+
+    /**
+     * Restores the snapshot of a configuration, if its file is unchanged.
+     *
+     * @param fileName the name of the configuration file
+     * @param hash     the hash of the configuration file
+     * @param clazz    the class of the configuration
+     * @return the restored configuration, or null if there is no valid snapshot
+     */
+    <T> @Nullable T read(@NotNull String fileName, @NotNull byte[] hash, @NotNull Class<T> clazz) {
+        Path file = this.resolve(fileName);
+        if (!Serializable.class.isAssignableFrom(clazz) || !Files.isRegularFile(file)) {
+            return null;
+        }
+
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(file))) {
+            DataInputStream data = new DataInputStream(in);
+            if (data.readInt() != FORMAT_VERSION) {
+                return null;
+            }
+
+            byte[] snapshotHash = new byte[data.readUnsignedShort()];
+            data.readFully(snapshotHash);
+            if (!Arrays.equals(hash, snapshotHash)) {
+                return null;
+            }
+
+            List<String> trusted = new ArrayList<>(TRUSTED_PACKAGES);
+            for (String trustedPackage : new String[] { this.pluginPackage, packageOf(clazz) }) {
+                // never trust the default package, which would match every class
+                if (!trustedPackage.isEmpty()) {
+                    trusted.add(trustedPackage);
+                }
+            }
+
+            Object config = new SnapshotInputStream(in, clazz.getClassLoader(), trusted).readObject();
+            return clazz.isInstance(config) ? clazz.cast(config) : null;
+        }
+        catch (Exception ex) {
+            return null;
+        }
+    }
+
+    /**
+     * Snapshots a configuration loaded from a file with the given hash.
+     *
+     * @param fileName the name of the configuration file
+     * @param hash     the hash of the configuration file
+     * @param config   the loaded configuration
+     * @return whether the snapshot was written
+     */
+    boolean write(@NotNull String fileName, @NotNull byte[] hash, @NotNull Object config) {
+        if (!(config instanceof Serializable)) {
+            return false;
+        }
+
+        Path file = this.resolve(fileName);
+        Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+        try {
+            Files.createDirectories(file.getParent());
+            try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(temp))) {
+                DataOutputStream data = new DataOutputStream(out);
+                data.writeInt(FORMAT_VERSION);
+                data.writeShort(hash.length);
+                data.write(hash);
+                data.flush();
+
+                ObjectOutputStream objects = new ObjectOutputStream(out);
+                objects.writeObject(config);
+                objects.flush();
+            }
+
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+            return true;
+        }
+        catch (IOException ex) {
+            // part of the object graph is not serializable
+            try {
+                Files.deleteIfExists(temp);
+            }
+            catch (IOException ignored) {
+                // NO OP
+            }
+            return false;
+        }
+    }
+
+    private @NotNull Path resolve(@NotNull String fileName) {
+        return this.directory.resolve(fileName + ".snapshot");
+    }
+
+    /**
+     * Retrieves the package of a class, including the trailing separator.
+     */
+    private static @NotNull String packageOf(@NotNull Class<?> clazz) {
+        String name = clazz.getName();
+        return name.substring(0, name.lastIndexOf('.') + 1);
+    }
+
+    /**
+     * Resolves classes through the class loader of the configuration, as
+     * plugin classes are not visible to the default class loader. Classes
+     * outside the trusted packages are rejected before they are loaded.
+     */
+    private static final class SnapshotInputStream extends ObjectInputStream {
+
+        private final ClassLoader classLoader;
+
+        private final List<String> trustedPackages;
+
+        SnapshotInputStream(@NotNull InputStream in, @Nullable ClassLoader classLoader,
+                            @NotNull List<String> trustedPackages) throws IOException {
+            super(in);
+            this.classLoader = classLoader;
+            this.trustedPackages = trustedPackages;
+        }
+
+        @Override
+        protected Class<?> resolveClass(ObjectStreamClass desc) throws IOException, ClassNotFoundException {
+            if (!this.isTrusted(desc.getName())) {
+                throw new InvalidClassException(desc.getName(), "Class is not permitted in a configuration snapshot");
+            }
+
+            if (this.classLoader != null) {
+                try {
+                    return Class.forName(desc.getName(), false, this.classLoader);
+                }
+                catch (ClassNotFoundException ignored) {
+                    // fall back to the default resolution
+                }
+            }
+            return super.resolveClass(desc);
+        }
+
+        @Override
+        protected Class<?> resolveProxyClass(String[] interfaces) throws IOException {
+            throw new InvalidClassException("Proxy classes are not permitted in a configuration snapshot");
+        }
+
+        private boolean isTrusted(@NotNull String name) {
+            // unwrap array types, such as "[[Ljava.lang.String;" or "[I"
+            int dimensions = 0;
+            while (dimensions < name.length() && name.charAt(dimensions) == '[') {
+                dimensions++;
+            }
+            if (dimensions > 0) {
+                if (name.charAt(dimensions) != 'L') {
+                    return name.length() == dimensions + 1; // array of primitives
+                }
+                name = name.substring(dimensions + 1, name.length() - 1);
+            }
+
+            for (String trusted : this.trustedPackages) {
+                if (name.startsWith(trusted)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
@@ -0,0 +1,154 @@
+/*
+ * This file is part of AlpineCore - https://github.com/alpine-network/alpine-core
+ * Copyright (C) 2025 Crystal Development, LLC
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+package co.crystaldev.alpinecore.framework.config;
+
+import co.crystaldev.alpinecore.AlpinePlugin;
+import org.bukkit.Bukkit;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+
+/**
+ * Watches the files of registered configurations, reloading them when
+ * they are modified on disk.
+ * <p>
+ * Changes are debounced, so a configuration is only reloaded once its
+ * file has not been modified for {@link #DEBOUNCE_MILLIS}. Changed files
+ * are parsed on the watcher thread, and only the parsed configurations
+ * are handed to the main thread to be swapped in.
+ *
+ * @see ConfigManager#startWatching()
+ * @since 0.4.10
+ */
+@ApiStatus.Internal
+final class ConfigWatcher implements Runnable {
+
+    /** How long a file must go unmodified before it is reloaded */
+    static final long DEBOUNCE_MILLIS = 500L;
+
+    private final AlpinePlugin plugin;
+
+    private final ConfigManager manager;
+
+    private final WatchService watchService;
+
+    private final Thread thread;
+
+    /** Files which have changed since they were last reloaded */
+    private final Set<Path> pending = new LinkedHashSet<>();
+
+    ConfigWatcher(@NotNull AlpinePlugin plugin, @NotNull ConfigManager manager) throws IOException {
+        this.plugin = plugin;
+        this.manager = manager;
+        this.watchService = FileSystems.getDefault().newWatchService();
+        this.thread = new Thread(this, plugin.getName() + " Config Watcher");
+        this.thread.setDaemon(true);
+    }
+
+    /**
+     * Begins watching the directories of every registered configuration.
+     */
+    void start() throws IOException {
+        Set<Path> directories = new LinkedHashSet<>();
+        for (Path file : this.manager.getConfigFiles().keySet()) {
+            directories.add(file.getParent());
+        }
+
+        for (Path directory : directories) {
+            directory.register(this.watchService,
+                    StandardWatchEventKinds.ENTRY_CREATE,
+                    StandardWatchEventKinds.ENTRY_MODIFY);
+        }
+
+        this.thread.start();
+    }
+
+    /**
+     * Stops watching for changes.
+     */
+    void stop() {
+        try {
+            this.watchService.close();
+        }
+        catch (IOException ignored) {
+            // NO OP
+        }
+        this.thread.interrupt();
+    }
+
+    @Override
+    public void run() {
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                WatchKey key = this.pending.isEmpty()
+                        ? this.watchService.take()
+                        : this.watchService.poll(DEBOUNCE_MILLIS, TimeUnit.MILLISECONDS);
+
+                if (key == null) {
+                    // no further changes within the debounce period
+                    this.reloadPending();
+                    continue;
+                }
+
+                Path directory = (Path) key.watchable();
+                for (WatchEvent<?> event : key.pollEvents()) {
+                    if (event.kind() != StandardWatchEventKinds.OVERFLOW) {
+                        this.pending.add(directory.resolve((Path) event.context()).toAbsolutePath().normalize());
+                    }
+                }
+                key.reset();
+            }
+        }
+        catch (InterruptedException | ClosedWatchServiceException ignored) {
+            // the watcher was stopped
+        }
+    }
+
+    private void reloadPending() {
+        Map<Path, Class<? extends AlpineConfig>> files = this.manager.getConfigFiles();
+        Map<Class<? extends AlpineConfig>, AlpineConfig> reloaded = new HashMap<>();
+        for (Path file : this.pending) {
+            Class<? extends AlpineConfig> clazz = files.get(file);
+            if (clazz == null) {
+                continue;
+            }
+
+            try {
+                reloaded.put(clazz, this.manager.parseConfig(clazz));
+            }
+            catch (Exception ex) {
+                this.plugin.log(Level.WARNING, String.format("&cUnable to reload &d%s&c, keeping the current configuration",
+                        file.getFileName()));
+                this.plugin.log("Unable to reload configuration " + file, ex);
+            }
+        }
+        this.pending.clear();
+
+        if (!reloaded.isEmpty() && this.plugin.isEnabled()) {
+            Bukkit.getScheduler().runTask(this.plugin, () -> reloaded.forEach((clazz, config) -> {
+                this.manager.replaceConfig(config);
+                this.plugin.log(String.format("&aReloaded configuration &d%s", config.getFileName()));
+            }));
+        }
+    }
+}
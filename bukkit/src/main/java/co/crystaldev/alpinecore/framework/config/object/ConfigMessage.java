@@ -10,15 +10,18 @@
 
 import co.crystaldev.alpinecore.AlpinePlugin;
 import co.crystaldev.alpinecore.integration.PlaceholderIntegration;
-import co.crystaldev.alpinecore.util.Formatting;
+import co.crystaldev.alpinecore.integration.PlaceholderSnapshot;
+import co.crystaldev.alpinecore.util.MessageTemplate;
 import de.exlll.configlib.Configuration;
 import de.exlll.configlib.Serializer;
 import lombok.NoArgsConstructor;
 import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.minimessage.tag.resolver.TagResolver;
 import org.bukkit.OfflinePlayer;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.io.Serializable;
 import java.util.*;
 import java.util.stream.Collectors;
 
@@ -26,7 +29,9 @@
  * A simple implementation of a configurable plugin message
  * compatible with {@link co.crystaldev.alpinecore.framework.config.AlpineConfig}.
  * <p>
- * Utilizes the Adventure framework for formatting.
+ * Utilizes the Adventure framework for formatting. Placeholder values which
+ * are components are inserted into the built component directly, rather than
+ * being serialized into the message text.
  * </p>
  * Example usage:
  * <pre>{@code
@@ -45,10 +50,13 @@
  */
 @NoArgsConstructor
 @Configuration
-public class ConfigMessage {
+public class ConfigMessage implements Serializable {
 
     protected List<String> message;
 
+    /** The compiled template, along with the variables it was compiled against */
+    private transient volatile CompiledMessage compiled;
+
     protected ConfigMessage(@NotNull List<String> message) {
         List<String> processedMessage = new LinkedList<>();
         for (String s : message) {
@@ -138,14 +146,15 @@ protected ConfigMessage(@NotNull String message) {
             @Nullable OfflinePlayer otherPlayer,
             @NotNull Map<String, Object> placeholders
     ) {
-        String formatted = Formatting.placeholders(plugin, String.join("\n", this.message), placeholders);
+        TagResolver.Builder components = TagResolver.builder();
+        String formatted = this.template(plugin).render(plugin.getStrictMiniMessage(), components, placeholders);
         if (targetPlayer != null) {
             PlaceholderIntegration integration = plugin.getActivatable(PlaceholderIntegration.class);
             if (integration != null) {
                 formatted = integration.replace(targetPlayer, otherPlayer, true, formatted);
             }
         }
-        return plugin.getMiniMessage().deserialize(formatted);
+        return plugin.getComponentCache().deserialize(formatted, components.build());
     }
 
     /**
@@ -223,14 +232,93 @@ protected ConfigMessage(@NotNull String message) {
             @Nullable OfflinePlayer otherPlayer,
             @NotNull Object... placeholders
     ) {
-        String formatted = Formatting.placeholders(plugin, String.join("\n", this.message), placeholders);
+        TagResolver.Builder components = TagResolver.builder();
+        String formatted = this.template(plugin).render(plugin.getStrictMiniMessage(), components, placeholders);
         if (targetPlayer != null) {
             PlaceholderIntegration integration = plugin.getActivatable(PlaceholderIntegration.class);
             if (integration != null) {
                 formatted = integration.replace(targetPlayer, otherPlayer, true, formatted);
             }
         }
-        return plugin.getMiniMessage().deserialize(formatted);
+        return plugin.getComponentCache().deserialize(formatted, components.build());
+    }
+
+    /**
+     * Formats the text of this message with placeholders, then deserializes
+     * it using Adventure's MiniMessage.
+     * <p>
+     * PlaceholderAPI placeholders are replaced using a snapshot taken by
+     * {@link #snapshot(AlpinePlugin, OfflinePlayer, OfflinePlayer)}, which
+     * allows this method to be called off the main thread.
+     *
+     * @param plugin       The main plugin instance used for contextual operations
+     * @param snapshot     The resolved PlaceholderAPI placeholders
+     * @param placeholders The placeholders for formatting the message
+     * @return The {@link Component}
+     *
+     * @see co.crystaldev.alpinecore.integration.PlaceholderSnapshot
+     */
+    public @NotNull Component buildFromSnapshot(
+            @NotNull AlpinePlugin plugin,
+            @NotNull PlaceholderSnapshot snapshot,
+            @NotNull Map<String, Object> placeholders
+    ) {
+        TagResolver.Builder components = TagResolver.builder();
+        String formatted = this.template(plugin).render(plugin.getStrictMiniMessage(), components, placeholders);
+        return plugin.getComponentCache().deserialize(snapshot.replace(formatted), components.build());
+    }
+
+    /**
+     * Formats the text of this message with placeholders, then deserializes
+     * it using Adventure's MiniMessage.
+     * <p>
+     * PlaceholderAPI placeholders are replaced using a snapshot taken by
+     * {@link #snapshot(AlpinePlugin, OfflinePlayer, OfflinePlayer)}, which
+     * allows this method to be called off the main thread.
+     *
+     * @param plugin       The main plugin instance used for contextual operations
+     * @param snapshot     The resolved PlaceholderAPI placeholders
+     * @param placeholders The placeholders for formatting the message
+     * @return The {@link Component}
+     *
+     * @see co.crystaldev.alpinecore.integration.PlaceholderSnapshot
+     */
+    public @NotNull Component buildFromSnapshot(
+            @NotNull AlpinePlugin plugin,
+            @NotNull PlaceholderSnapshot snapshot,
+            @NotNull Object... placeholders
+    ) {
+        TagResolver.Builder components = TagResolver.builder();
+        String formatted = this.template(plugin).render(plugin.getStrictMiniMessage(), components, placeholders);
+        return plugin.getComponentCache().deserialize(snapshot.replace(formatted), components.build());
+    }
+
+    /**
+     * Resolves the PlaceholderAPI placeholders within this message into a
+     * snapshot, so that it may later be built off the main thread.
+     * <p>
+     * This must be called on the main thread. Placeholders introduced by
+     * the values of message placeholders are not part of the snapshot.
+     *
+     * @param plugin       The main plugin instance used for contextual operations
+     * @param targetPlayer The target player
+     * @param otherPlayer  The relational player
+     * @return The snapshot
+     *
+     * @see PlaceholderIntegration#snapshotAsync(OfflinePlayer, OfflinePlayer, boolean, java.util.Collection)
+     */
+    public @NotNull PlaceholderSnapshot snapshot(
+            @NotNull AlpinePlugin plugin,
+            @Nullable OfflinePlayer targetPlayer,
+            @Nullable OfflinePlayer otherPlayer
+    ) {
+        PlaceholderIntegration integration = plugin.getActivatable(PlaceholderIntegration.class);
+        if (integration == null) {
+            return PlaceholderSnapshot.EMPTY;
+        }
+
+        String text = this.template(plugin).render(plugin.getStrictMiniMessage());
+        return integration.snapshot(targetPlayer, otherPlayer, true, Collections.singletonList(text));
     }
 
     /**
@@ -244,7 +332,7 @@ protected ConfigMessage(@NotNull String message) {
             @NotNull AlpinePlugin plugin,
             @NotNull Map<String, Object> placeholders
     ) {
-        return Formatting.placeholders(plugin, String.join("\n", this.message), placeholders);
+        return this.template(plugin).render(plugin.getStrictMiniMessage(), placeholders);
     }
 
     /**
@@ -282,7 +370,7 @@ protected ConfigMessage(@NotNull String message) {
             @Nullable OfflinePlayer otherPlayer,
             @NotNull Map<String, Object> placeholders
     ) {
-        String formatted = Formatting.placeholders(plugin, String.join("\n", this.message), placeholders);
+        String formatted = this.template(plugin).render(plugin.getStrictMiniMessage(), placeholders);
         if (targetPlayer != null) {
             PlaceholderIntegration integration = plugin.getActivatable(PlaceholderIntegration.class);
             if (integration != null) {
@@ -304,7 +392,7 @@ protected ConfigMessage(@NotNull String message) {
             @NotNull AlpinePlugin plugin,
             @NotNull Object... placeholders
     ) {
-        return Formatting.placeholders(plugin, String.join("\n", this.message), placeholders);
+        return this.template(plugin).render(plugin.getStrictMiniMessage(), placeholders);
     }
 
     /**
@@ -346,7 +434,7 @@ protected ConfigMessage(@NotNull String message) {
             @Nullable OfflinePlayer otherPlayer,
             @NotNull Object... placeholders
     ) {
-        String formatted = Formatting.placeholders(plugin, String.join("\n", this.message), placeholders);
+        String formatted = this.template(plugin).render(plugin.getStrictMiniMessage(), placeholders);
         if (targetPlayer != null) {
             PlaceholderIntegration integration = plugin.getActivatable(PlaceholderIntegration.class);
             if (integration != null) {
@@ -357,6 +445,35 @@ protected ConfigMessage(@NotNull String message) {
         return formatted;
     }
 
+    /**
+     * Retrieves the compiled template of this message.
+     * <p>
+     * The template is compiled on first use after the message is loaded, and
+     * again whenever the plugin's configured variables are reloaded.
+     *
+     * @param plugin The main plugin instance used for contextual operations
+     * @return The template
+     */
+    protected @NotNull MessageTemplate template(@NotNull AlpinePlugin plugin) {
+        Map<String, String> variables = plugin.getAlpineConfig().variables;
+        CompiledMessage compiled = this.compiled;
+        if (compiled == null || compiled.variables != variables) {
+            MessageTemplate template = MessageTemplate.compile(String.join("\n", this.message), variables);
+            this.compiled = compiled = new CompiledMessage(variables, template);
+        }
+        return compiled.template;
+    }
+
+    private static final class CompiledMessage {
+        final Map<String, String> variables;
+        final MessageTemplate template;
+
+        CompiledMessage(@NotNull Map<String, String> variables, @NotNull MessageTemplate template) {
+            this.variables = variables;
+            this.template = template;
+        }
+    }
+
     @SuppressWarnings("unchecked")
     public static final class Adapter implements Serializer<ConfigMessage, Object> {
         @Override
@@ -8,18 +8,26 @@
  */
 package co.crystaldev.alpinecore.framework.config.object;
 
-import co.crystaldev.alpinecore.util.Formatting;
 import com.google.common.collect.ImmutableMap;
 import de.exlll.configlib.Configuration;
-import lombok.AllArgsConstructor;
+import lombok.Getter;
 import lombok.NoArgsConstructor;
 import org.apache.commons.lang.Validate;
-import org.bukkit.Bukkit;
 import org.bukkit.entity.Player;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
 import java.util.concurrent.ThreadLocalRandom;
 import java.util.function.Consumer;
 
@@ -30,17 +38,27 @@
  * Each draw will produce random a number between 0 and 100 for
  * each {@link Entry}. If that number is less than or equal to
  * its chance, the reward is given.
+ * <p>
+ * Alternatively, exactly one reward may be drawn, with each {@link Entry}
+ * weighted by its chance. See {@link DrawMode}.
  *
  * @see Entry
  * @author Thomas Wearmouth
  * @since 0.1.0
  */
-@AllArgsConstructor @NoArgsConstructor
+@NoArgsConstructor
 @Configuration
-public class ConfigRewardPool {
+public class ConfigRewardPool implements Serializable {
 
     private List<Entry> entries;
 
+    /** The cumulative weights of the entries, built when first drawn from exclusively */
+    private transient volatile Sampler sampler;
+
+    public ConfigRewardPool(List<Entry> entries) {
+        this.entries = entries;
+    }
+
     /**
      * Draw rewards for a given player.
      *
@@ -87,6 +105,124 @@ public void drawForPlayer(@NotNull Player player, @NotNull Map<String, Object> p
         this.drawInternal(placeholders, callback);
     }
 
+    /**
+     * Draw exactly one reward for a given player, weighted by the chance of each reward.
+     *
+     * @param player The player
+     * @return The name of the granted reward, or null if the pool is empty
+     * @since 0.4.10
+     */
+    public @Nullable String drawOneForPlayer(@NotNull Player player) {
+        return this.drawOneForPlayer(player, new HashMap<>());
+    }
+
+    /**
+     * Draw exactly one reward for a given player with placeholders to format the
+     * commands with, weighted by the chance of each reward.
+     *
+     * @param player The player
+     * @param placeholders The placeholders
+     * @return The name of the granted reward, or null if the pool is empty
+     * @since 0.4.10
+     */
+    public @Nullable String drawOneForPlayer(@NotNull Player player, @NotNull Map<String, Object> placeholders) {
+        Entry entry = this.getSampler().sample(ThreadLocalRandom.current());
+        if (entry == null) {
+            return null;
+        }
+
+        placeholders.put("player", player.getName());
+        entry.executeCommands(placeholders);
+        return entry.name;
+    }
+
+    /**
+     * Draw several rewards for each of the given players.
+     * <p>
+     * The rewards are drawn immediately, while their commands are queued to
+     * the dispatcher to be dispatched over the following ticks.
+     * <p>
+     * Must be called from the main server thread, as the dispatcher is not thread-safe.
+     *
+     * @param dispatcher The dispatcher to queue the reward commands to
+     * @param players The players
+     * @param draws The number of draws for each player
+     * @param mode How each draw is made
+     * @return The names of the granted rewards of each player
+     * @since 0.4.10
+     */
+    public @NotNull Map<Player, List<String>> drawForPlayers(@NotNull RewardDispatcher dispatcher,
+                                                             @NotNull Collection<? extends Player> players,
+                                                             int draws, @NotNull DrawMode mode) {
+        Validate.isTrue(draws >= 0, "draws cannot be negative");
+
+        Random random = ThreadLocalRandom.current();
+        List<Entry> granted = new ArrayList<>();
+        Map<Player, List<String>> rewards = new LinkedHashMap<>();
+        for (Player player : players) {
+            Map<String, Object> placeholders = ImmutableMap.of("player", player.getName());
+            for (int i = 0; i < draws; i++) {
+                this.draw(random, mode, granted);
+            }
+
+            List<String> names = new ArrayList<>(granted.size());
+            for (Entry entry : granted) {
+                entry.queueCommands(placeholders, dispatcher);
+                names.add(entry.name);
+            }
+            rewards.put(player, names);
+            granted.clear();
+        }
+        return rewards;
+    }
+
+    /**
+     * Simulates draws from this pool without granting any rewards, for
+     * balancing the chances of its rewards.
+     *
+     * @param draws The number of draws to simulate
+     * @param mode How each draw is made
+     * @return The outcome of the simulation
+     * @since 0.4.10
+     */
+    public @NotNull Simulation simulate(int draws, @NotNull DrawMode mode) {
+        return this.simulate(draws, mode, new Random());
+    }
+
+    /**
+     * Simulates draws from this pool without granting any rewards, for
+     * balancing the chances of its rewards.
+     *
+     * @param draws The number of draws to simulate
+     * @param mode How each draw is made
+     * @param random The source of randomness, which may be seeded for a reproducible simulation
+     * @return The outcome of the simulation
+     * @since 0.4.10
+     */
+    public @NotNull Simulation simulate(int draws, @NotNull DrawMode mode, @NotNull Random random) {
+        Validate.isTrue(draws > 0, "draws must be greater than 0");
+
+        Map<String, Integer> hits = new LinkedHashMap<>();
+        for (Entry entry : this.entries) {
+            hits.put(entry.name, 0);
+        }
+
+        Map<Integer, Integer> distribution = new TreeMap<>();
+        List<Entry> granted = new ArrayList<>();
+        long total = 0L;
+        for (int i = 0; i < draws; i++) {
+            this.draw(random, mode, granted);
+            for (Entry entry : granted) {
+                hits.merge(entry.name, 1, Integer::sum);
+            }
+            distribution.merge(granted.size(), 1, Integer::sum);
+            total += granted.size();
+            granted.clear();
+        }
+
+        return new Simulation(mode, draws, total, hits, distribution);
+    }
+
     private void drawInternal(@NotNull Map<String, Object> placeholders, @NotNull Consumer<String> callback) {
         for (Entry entry : this.entries) {
             double draw = ThreadLocalRandom.current().nextDouble(0.0D, 100.0D);
@@ -97,16 +233,162 @@ private void drawInternal(@NotNull Map<String, Object> placeholders, @NotNull Co
         }
     }
 
+    private void draw(@NotNull Random random, @NotNull DrawMode mode, @NotNull List<Entry> granted) {
+        if (mode == DrawMode.EXCLUSIVE) {
+            Entry entry = this.getSampler().sample(random);
+            if (entry != null) {
+                granted.add(entry);
+            }
+            return;
+        }
+
+        for (Entry entry : this.entries) {
+            if (entry.chance >= random.nextDouble() * 100.0D) {
+                granted.add(entry);
+            }
+        }
+    }
+
+    private @NotNull Sampler getSampler() {
+        Sampler sampler = this.sampler;
+        if (sampler == null || sampler.entries != this.entries) {
+            this.sampler = sampler = new Sampler(this.entries);
+        }
+        return sampler;
+    }
+
+    /**
+     * How a reward is drawn from a pool.
+     *
+     * @since 0.4.10
+     */
+    public enum DrawMode {
+        /** Each reward is granted independently, with its chance out of 100 */
+        INDEPENDENT,
+
+        /** Exactly one reward is granted, weighted by its chance relative to the other rewards */
+        EXCLUSIVE
+    }
+
+    /**
+     * The outcome of simulated draws from a pool.
+     *
+     * @see #simulate(int, DrawMode)
+     * @since 0.4.10
+     */
+    @Getter
+    public static final class Simulation {
+
+        private final DrawMode mode;
+
+        private final int draws;
+
+        /** The total number of rewards granted across every draw */
+        private final long rewards;
+
+        /** The number of times each reward was granted, keyed by its name */
+        private final Map<String, Integer> hits;
+
+        /** The number of draws which granted each number of rewards */
+        private final Map<Integer, Integer> distribution;
+
+        private Simulation(@NotNull DrawMode mode, int draws, long rewards, @NotNull Map<String, Integer> hits,
+                           @NotNull Map<Integer, Integer> distribution) {
+            this.mode = mode;
+            this.draws = draws;
+            this.rewards = rewards;
+            this.hits = Collections.unmodifiableMap(hits);
+            this.distribution = Collections.unmodifiableMap(distribution);
+        }
+
+        /**
+         * Retrieves the fraction of draws which granted the given reward.
+         *
+         * @param name The name of the reward
+         * @return The rate between 0 and 1
+         */
+        public double getRate(@NotNull String name) {
+            return this.hits.getOrDefault(name, 0) / (double) this.draws;
+        }
+
+        /**
+         * Retrieves the mean number of rewards granted per draw.
+         *
+         * @return The expected number of rewards
+         */
+        public double getExpectedRewards() {
+            return this.rewards / (double) this.draws;
+        }
+
+        @Override
+        public String toString() {
+            StringBuilder builder = new StringBuilder()
+                    .append(this.draws).append(' ').append(this.mode.name().toLowerCase()).append(" draws, ")
+                    .append(String.format("%.3f", this.getExpectedRewards())).append(" rewards per draw");
+            this.hits.forEach((name, count) -> builder.append("\n  ").append(name).append(": ")
+                    .append(String.format("%.3f%%", this.getRate(name) * 100.0D)));
+            return builder.toString();
+        }
+    }
+
+    /**
+     * Draws a single entry weighted by its chance, by binary searching the
+     * cumulative weights of the entries.
+     */
+    private static final class Sampler {
+
+        private final List<Entry> entries;
+
+        private final Entry[] sorted;
+
+        private final double[] cumulative;
+
+        private final double total;
+
+        Sampler(@NotNull List<Entry> entries) {
+            this.entries = entries;
+            this.sorted = entries.toArray(new Entry[0]);
+            this.cumulative = new double[this.sorted.length];
+
+            double total = 0.0D;
+            for (int i = 0; i < this.sorted.length; i++) {
+                total += Math.max(0.0D, this.sorted[i].chance);
+                this.cumulative[i] = total;
+            }
+            this.total = total;
+        }
+
+        @Nullable Entry sample(@NotNull Random random) {
+            if (this.total <= 0.0D) {
+                return null;
+            }
+
+            double roll = random.nextDouble() * this.total;
+            int index = Arrays.binarySearch(this.cumulative, roll);
+
+            // a miss returns the insertion point, which is the first greater weight
+            index = index < 0 ? -index - 1 : index + 1;
+
+            // skip any entries without weight which share the same cumulative weight
+            while (index < this.sorted.length - 1 && this.cumulative[index] <= roll) {
+                index++;
+            }
+            return this.sorted[Math.min(index, this.sorted.length - 1)];
+        }
+    }
+
     /**
      * Represents a possible reward.
      */
     @NoArgsConstructor
     @Configuration
-    public static class Entry {
+    public static class Entry implements Serializable {
         private String name;
         private double chance;
         private List<String> commands;
 
+        private transient volatile CompiledCommands compiled;
+
         /**
          * @param name The display name
          * @param chance The chance of this reward being drawn
@@ -121,9 +403,40 @@ public Entry(@NotNull String name, double chance, @NotNull List<String> commands
         }
 
         protected void executeCommands(@NotNull Map<String, Object> placeholders) {
-            for (String command : this.commands) {
-                command = Formatting.placeholders(command, placeholders);
-                Bukkit.dispatchCommand(Bukkit.getConsoleSender(), command);
+            for (RewardCommand command : this.getCompiledCommands()) {
+                command.execute(placeholders);
+            }
+        }
+
+        void queueCommands(@NotNull Map<String, Object> placeholders, @NotNull RewardDispatcher dispatcher) {
+            for (RewardCommand command : this.getCompiledCommands()) {
+                dispatcher.queue(command.render(placeholders));
+            }
+        }
+
+        private @NotNull RewardCommand[] getCompiledCommands() {
+            CompiledCommands compiled = this.compiled;
+            if (compiled == null || compiled.source != this.commands) {
+                this.compiled = compiled = new CompiledCommands(this.commands);
+            }
+            return compiled.commands;
+        }
+    }
+
+    /**
+     * The commands of an entry, compiled when the entry is first drawn.
+     */
+    private static final class CompiledCommands {
+
+        private final List<String> source;
+
+        private final RewardCommand[] commands;
+
+        CompiledCommands(@NotNull List<String> source) {
+            this.source = source;
+            this.commands = new RewardCommand[source.size()];
+            for (int i = 0; i < this.commands.length; i++) {
+                this.commands[i] = RewardCommand.compile(source.get(i));
             }
         }
     }
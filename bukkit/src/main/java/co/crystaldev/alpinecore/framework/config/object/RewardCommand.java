@@ -0,0 +1,66 @@
+/*
+ * This file is part of AlpineCore - https://github.com/alpine-network/alpine-core
+ * Copyright (C) 2025 Crystal Development, LLC
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+package co.crystaldev.alpinecore.framework.config.object;
+
+import co.crystaldev.alpinecore.util.MessageTemplate;
+import net.kyori.adventure.text.minimessage.MiniMessage;
+import org.bukkit.Bukkit;
+import org.bukkit.command.CommandSender;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Map;
+
+/**
+ * A reward command compiled once from its configured text.
+ * <p>
+ * The text is compiled into a {@link MessageTemplate}, so each draw only fills
+ * in its placeholders. The rendered command line is dispatched through
+ * {@link Bukkit#dispatchCommand(CommandSender, String)}, as it would be
+ * without compiling it.
+ *
+ * @since 0.4.10
+ */
+final class RewardCommand {
+
+    private final MessageTemplate template;
+
+    private RewardCommand(@NotNull MessageTemplate template) {
+        this.template = template;
+    }
+
+    /**
+     * Compiles a command line.
+     *
+     * @param text the command line, without a leading slash
+     * @return the compiled command
+     */
+    static @NotNull RewardCommand compile(@NotNull String text) {
+        return new RewardCommand(MessageTemplate.compile(text));
+    }
+
+    /**
+     * Renders the command line with the given placeholders.
+     *
+     * @param placeholders the placeholders
+     * @return the command line
+     */
+    @NotNull String render(@NotNull Map<String, Object> placeholders) {
+        return this.template.render(MiniMessage.miniMessage(), placeholders);
+    }
+
+    /**
+     * Renders the command line with the given placeholders
+     * and dispatches it as the console.
+     *
+     * @param placeholders the placeholders
+     */
+    void execute(@NotNull Map<String, Object> placeholders) {
+        Bukkit.dispatchCommand(Bukkit.getConsoleSender(), this.render(placeholders));
+    }
+}
@@ -0,0 +1,196 @@
+/*
+ * This file is part of AlpineCore - https://github.com/alpine-network/alpine-core
+ * Copyright (C) 2025 Crystal Development, LLC
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+package co.crystaldev.alpinecore.framework.config.object;
+
+import co.crystaldev.alpinecore.AlpinePlugin;
+import co.crystaldev.alpinecore.event.ServerTickEvent;
+import org.apache.commons.lang.Validate;
+import org.bukkit.Bukkit;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.HandlerList;
+import org.bukkit.event.Listener;
+import org.bukkit.event.server.PluginDisableEvent;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Dispatches the commands of drawn rewards over several ticks.
+ * <p>
+ * Drawing many rewards at once, such as when opening a stack of crate keys,
+ * can produce hundreds of commands. Rather than dispatching all of them
+ * within a single tick, they are queued and dispatched on each
+ * {@link ServerTickEvent} until either {@code commandsPerTick} commands
+ * have been dispatched or the tick's time budget has been spent. At least
+ * one command is dispatched each tick. Any commands still queued when the
+ * owning plugin is disabled are dispatched immediately.
+ * <p>
+ * Each dispatcher registers its own tick listener, so a dispatcher should be
+ * created once and shared, and {@link #close() closed} once it is no longer
+ * needed. Dispatchers are not thread-safe and must only be used from the main
+ * server thread.
+ * <p>
+ * Example usage:
+ * <pre>{@code
+ * AlpinePlugin plugin;
+ * RewardDispatcher dispatcher = RewardDispatcher.create(plugin);
+ *
+ * public void openCrate(Player player, int keys) {
+ *     pool.drawForPlayers(dispatcher, Collections.singleton(player), keys, ConfigRewardPool.DrawMode.EXCLUSIVE);
+ * }
+ * }</pre>
+ *
+ * @see ConfigRewardPool#drawForPlayers
+ * @since 0.4.10
+ */
+public final class RewardDispatcher {
+
+    /** The default number of commands dispatched per tick */
+    public static final int DEFAULT_COMMANDS_PER_TICK = 20;
+
+    /** The default time spent dispatching commands per tick, in milliseconds */
+    public static final long DEFAULT_BUDGET_MILLIS = 2L;
+
+    private final AlpinePlugin plugin;
+
+    private final int commandsPerTick;
+
+    private final long budgetNanos;
+
+    private final Deque<String> queue = new ArrayDeque<>();
+
+    private final DispatchListener listener = new DispatchListener();
+
+    private boolean closed;
+
+    private RewardDispatcher(@NotNull AlpinePlugin plugin, int commandsPerTick, long budgetNanos) {
+        this.plugin = plugin;
+        this.commandsPerTick = commandsPerTick;
+        this.budgetNanos = budgetNanos;
+        Bukkit.getPluginManager().registerEvents(this.listener, plugin);
+    }
+
+    /**
+     * Creates a dispatcher which dispatches up to {@link #DEFAULT_COMMANDS_PER_TICK}
+     * commands within {@link #DEFAULT_BUDGET_MILLIS} per tick.
+     *
+     * @param plugin the owning plugin
+     * @return the dispatcher
+     */
+    public static @NotNull RewardDispatcher create(@NotNull AlpinePlugin plugin) {
+        return create(plugin, DEFAULT_COMMANDS_PER_TICK);
+    }
+
+    /**
+     * Creates a dispatcher which dispatches commands within {@link #DEFAULT_BUDGET_MILLIS}
+     * per tick.
+     *
+     * @param plugin          the owning plugin
+     * @param commandsPerTick the maximum number of commands dispatched per tick
+     * @return the dispatcher
+     */
+    public static @NotNull RewardDispatcher create(@NotNull AlpinePlugin plugin, int commandsPerTick) {
+        return create(plugin, commandsPerTick, DEFAULT_BUDGET_MILLIS, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Creates a dispatcher.
+     *
+     * @param plugin          the owning plugin
+     * @param commandsPerTick the maximum number of commands dispatched per tick
+     * @param budget          the maximum time spent dispatching commands per tick
+     * @param unit            the unit of the budget
+     * @return the dispatcher
+     */
+    public static @NotNull RewardDispatcher create(@NotNull AlpinePlugin plugin, int commandsPerTick,
+                                                   long budget, @NotNull TimeUnit unit) {
+        Validate.notNull(plugin, "plugin cannot be null");
+        Validate.isTrue(commandsPerTick > 0, "commandsPerTick must be greater than 0");
+        Validate.isTrue(budget > 0L, "budget must be greater than 0");
+        return new RewardDispatcher(plugin, commandsPerTick, unit.toNanos(budget));
+    }
+
+    /**
+     * Queues a console command to be dispatched.
+     * <p>
+     * Must be called from the main server thread.
+     *
+     * @param command the command line, without a leading slash
+     * @throws IllegalStateException if the dispatcher has been closed
+     */
+    public void queue(@NotNull String command) {
+        if (this.closed) {
+            throw new IllegalStateException("Dispatcher has been closed");
+        }
+        this.queue.add(command);
+    }
+
+    /**
+     * Retrieves the number of commands waiting to be dispatched.
+     *
+     * @return the number of queued commands
+     */
+    public int getQueued() {
+        return this.queue.size();
+    }
+
+    /**
+     * Dispatches every queued command immediately.
+     */
+    public void flush() {
+        this.dispatch(Integer.MAX_VALUE, Long.MAX_VALUE);
+    }
+
+    /**
+     * Dispatches every queued command immediately, then stops listening for ticks.
+     * A closed dispatcher can no longer be queued to.
+     */
+    public void close() {
+        if (this.closed) {
+            return;
+        }
+
+        this.flush();
+        HandlerList.unregisterAll(this.listener);
+        this.closed = true;
+    }
+
+    private void dispatch(int limit, long budgetNanos) {
+        long start = System.nanoTime();
+        for (int i = 0; i < limit && !this.queue.isEmpty(); i++) {
+            if (i > 0 && System.nanoTime() - start >= budgetNanos) {
+                break;
+            }
+
+            String command = this.queue.poll();
+            try {
+                Bukkit.dispatchCommand(Bukkit.getConsoleSender(), command);
+            }
+            catch (Exception ex) {
+                this.plugin.log("Unable to dispatch reward command " + command, ex);
+            }
+        }
+    }
+
+    private final class DispatchListener implements Listener {
+        @EventHandler
+        public void onServerTick(ServerTickEvent event) {
+            RewardDispatcher.this.dispatch(RewardDispatcher.this.commandsPerTick, RewardDispatcher.this.budgetNanos);
+        }
+
+        @EventHandler
+        public void onPluginDisable(PluginDisableEvent event) {
+            if (event.getPlugin() == RewardDispatcher.this.plugin) {
+                RewardDispatcher.this.close();
+            }
+        }
+    }
+}
@@ -9,30 +9,22 @@
 package co.crystaldev.alpinecore.framework.config.object.item;
 
 import co.crystaldev.alpinecore.AlpinePlugin;
-import co.crystaldev.alpinecore.integration.PlaceholderIntegration;
-import co.crystaldev.alpinecore.util.Components;
-import co.crystaldev.alpinecore.util.Formatting;
-import co.crystaldev.alpinecore.util.ItemHelper;
-import com.cryptomorin.xseries.XItemFlag;
+import co.crystaldev.alpinecore.util.ItemMetaEditor;
 import com.cryptomorin.xseries.XMaterial;
 import de.exlll.configlib.Polymorphic;
 import de.exlll.configlib.PolymorphicTypes;
 import net.kyori.adventure.text.Component;
-import net.kyori.adventure.text.minimessage.MiniMessage;
 import org.bukkit.Material;
 import org.bukkit.OfflinePlayer;
-import org.bukkit.enchantments.Enchantment;
 import org.bukkit.entity.Player;
 import org.bukkit.inventory.ItemStack;
-import org.bukkit.inventory.meta.ItemMeta;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.io.Serializable;
 import java.util.List;
 import java.util.Map;
 import java.util.function.Function;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 /**
  * Represents a configurable item within the plugin framework.
@@ -48,7 +40,7 @@
         @PolymorphicTypes.Type(type = DefinedConfigItem.class),
         @PolymorphicTypes.Type(type = VaryingConfigItem.class)
 })
-public interface ConfigItem {
+public interface ConfigItem extends Serializable {
 
     @Nullable
     String getName();
@@ -127,33 +119,9 @@ default boolean hasAttribute(@NotNull String key) {
             return new ItemStack(Material.AIR);
         }
 
-        PlaceholderIntegration integration = plugin.getActivatable(PlaceholderIntegration.class);
-        MiniMessage serializer = plugin.getMiniMessage();
-
-        Map<String, Object> placeholdersMap = placeholders.length == 1 && placeholders[0] instanceof Map
-                ? (Map<String, Object>) placeholders[0] : null;
-
-        // build the item name
-        String replacedName = placeholdersMap != null ? Formatting.placeholders(plugin, this.getName(), placeholdersMap)
-                : Formatting.placeholders(plugin, this.getName(), placeholders);
-        if (integration != null) {
-            replacedName = integration.replace(targetPlayer, otherPlayer, true, replacedName);
-        }
-
-        Component name = Components.reset().append(serializer.deserialize(replacedName));
-
-        // build the item lore
-        String joinedLore = this.getLore() == null || this.getLore().isEmpty() ? "" : String.join("\n", this.getLore());
-        joinedLore = placeholdersMap != null ? Formatting.placeholders(plugin, joinedLore, placeholdersMap)
-                : Formatting.placeholders(plugin, joinedLore, placeholders);
-        if (integration != null) {
-            joinedLore = integration.replace(targetPlayer, otherPlayer, true, joinedLore);
-        }
-
-        List<Component> lore = Stream.of(joinedLore.split("\n|<br>"))
-                .map(v -> v.isEmpty() ? " " : v)
-                .map(v -> Components.reset().append(serializer.deserialize(v)))
-                .collect(Collectors.toList());
+        // build the item name and lore
+        Component name = ConfigItemHelper.buildName(plugin, this.getName(), targetPlayer, otherPlayer, placeholders);
+        List<Component> lore = ConfigItemHelper.buildLore(plugin, this.getLore(), targetPlayer, otherPlayer, placeholders);
 
         // construct the item
         ItemStack stack = type.parseItem();
@@ -162,31 +130,8 @@ default boolean hasAttribute(@NotNull String key) {
         count = Math.max(Math.min(parsed.getMaxStackSize(), count), 1);
         stack.setAmount(count);
 
-        // apply attributes
-        ItemHelper.setDisplayName(stack, name);
-        ItemHelper.setLore(stack, lore);
-
-        // apply enchantments
-        if (this.isEnchanted()) {
-            stack.addUnsafeEnchantment(Enchantment.LURE, 1);
-
-            ItemMeta meta = stack.getItemMeta();
-            meta.addItemFlags(XItemFlag.HIDE_ENCHANTS.get());
-            stack.setItemMeta(meta);
-        }
-
-        // apply custom attributes
-        Map<String, Object> attributes = this.getAttributes();
-        if (attributes != null && !attributes.isEmpty()) {
-            ConfigItemHelper.applyToItem(stack, attributes);
-        }
-
-        // allow plugins to configure the item further
-        if (function != null) {
-            stack = function.apply(stack);
-        }
-
-        return stack;
+        // apply attributes, allowing plugins to configure the item further
+        return ConfigItemHelper.applyAll(this, ItemMetaEditor.edit(stack), name, lore).commit(function);
     }
 
     /**
@@ -358,63 +303,16 @@ default boolean hasAttribute(@NotNull String key) {
             @Nullable OfflinePlayer otherPlayer,
             @NotNull Object... placeholders
     ) {
-        PlaceholderIntegration integration = plugin.getActivatable(PlaceholderIntegration.class);
-        MiniMessage serializer = plugin.getMiniMessage();
-
-        Map<String, Object> placeholdersMap = placeholders.length == 1 && placeholders[0] instanceof Map
-                ? (Map<String, Object>) placeholders[0] : null;
-
-        // build the item name
-        String replacedName = placeholdersMap != null ? Formatting.placeholders(plugin, this.getName(), placeholdersMap)
-                : Formatting.placeholders(plugin, this.getName(), placeholders);
-        if (integration != null) {
-            replacedName = integration.replace(targetPlayer, otherPlayer, true, replacedName);
-        }
-
-        Component name = Components.reset().append(serializer.deserialize(replacedName));
-
-        // build the item lore
-        String joinedLore = this.getLore() == null || this.getLore().isEmpty() ? "" : String.join("\n", this.getLore());
-        joinedLore = placeholdersMap != null ? Formatting.placeholders(plugin, joinedLore, placeholdersMap)
-                : Formatting.placeholders(plugin, joinedLore, placeholders);
-        if (integration != null) {
-            joinedLore = integration.replace(targetPlayer, otherPlayer, true, joinedLore);
-        }
-
-        List<Component> lore = Stream.of(joinedLore.split("\n|<br>"))
-                .map(v -> v.isEmpty() ? " " : v)
-                .map(v -> Components.reset().append(serializer.deserialize(v)))
-                .collect(Collectors.toList());
+        // build the item name and lore
+        Component name = ConfigItemHelper.buildName(plugin, this.getName(), targetPlayer, otherPlayer, placeholders);
+        List<Component> lore = ConfigItemHelper.buildLore(plugin, this.getLore(), targetPlayer, otherPlayer, placeholders);
 
         // apply to the provided item stack
         stack = stack.clone();
         stack.setAmount(Math.max(Math.min(stack.getMaxStackSize(), count), 1));
 
-        // apply attributes
-        ItemHelper.setDisplayName(stack, name);
-        ItemHelper.setLore(stack, lore);
-
-        // apply enchantments
-        if (this.isEnchanted()) {
-            stack.addUnsafeEnchantment(Enchantment.LURE, 1);
-
-            ItemMeta meta = stack.getItemMeta();
-            meta.addItemFlags(XItemFlag.HIDE_ENCHANTS.get());
-            stack.setItemMeta(meta);
-        }
-
-        // apply custom attributes
-        Map<String, Object> attributes = this.getAttributes();
-        if (attributes != null && !attributes.isEmpty()) {
-            ConfigItemHelper.applyToItem(stack, attributes);
-        }
-
-        // allow plugins to configure the item further
-        if (function != null) {
-            stack = function.apply(stack);
-        }
-
-        return stack;
+        // apply attributes, allowing plugins to configure the item further
+        return ConfigItemHelper.applyAll(this, ItemMetaEditor.edit(stack), name, lore).commit(function);
     }
 
     /**
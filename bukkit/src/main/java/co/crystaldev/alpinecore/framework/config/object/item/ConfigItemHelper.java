@@ -8,24 +8,35 @@
  */
 package co.crystaldev.alpinecore.framework.config.object.item;
 
+import co.crystaldev.alpinecore.AlpinePlugin;
+import co.crystaldev.alpinecore.integration.PlaceholderIntegration;
+import co.crystaldev.alpinecore.util.ComponentCache;
+import co.crystaldev.alpinecore.util.Components;
+import co.crystaldev.alpinecore.util.ItemMetaEditor;
+import co.crystaldev.alpinecore.util.MessageTemplate;
 import co.crystaldev.alpinecore.util.ReflectionHelper;
 import com.cryptomorin.xseries.XEnchantment;
 import com.cryptomorin.xseries.XItemFlag;
 import com.cryptomorin.xseries.XPotion;
-import com.cryptomorin.xseries.profiles.builder.XSkull;
-import com.cryptomorin.xseries.profiles.objects.Profileable;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.minimessage.MiniMessage;
+import net.kyori.adventure.text.minimessage.tag.resolver.TagResolver;
 import org.bukkit.Bukkit;
 import org.bukkit.Color;
+import org.bukkit.OfflinePlayer;
+import org.bukkit.enchantments.Enchantment;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.inventory.meta.ItemMeta;
 import org.bukkit.inventory.meta.PotionMeta;
-import org.bukkit.inventory.meta.SkullMeta;
 import org.bukkit.potion.PotionType;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Method;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -33,11 +44,11 @@
  */
 final class ConfigItemHelper {
 
-    private static final Map<String, XEnchantment> ENCHANTMENTS = new HashMap<>();
+    static final Map<String, XEnchantment> ENCHANTMENTS = new HashMap<>();
 
-    private static final Map<String, XItemFlag> FLAGS = new HashMap<>();
+    static final Map<String, XItemFlag> FLAGS = new HashMap<>();
 
-    private static final Map<String, XPotion> POTIONS = new HashMap<>();
+    static final Map<String, XPotion> POTIONS = new HashMap<>();
 
     private static final Method PotionMeta$setBasePotionType = ReflectionHelper.findMethod(PotionMeta.class,
             "setBasePotionType", PotionType.class);
@@ -51,107 +62,112 @@ final class ConfigItemHelper {
     private static final Method PotionMeta$setBasePotionData = PotionData == null ? null
             : ReflectionHelper.findMethod(PotionMeta.class, "setBasePotionData", PotionData);
 
-    private static final Method PotionMeta$setColor = ReflectionHelper.findMethod(PotionMeta.class,
+    static final Method PotionMeta$setColor = ReflectionHelper.findMethod(PotionMeta.class,
             "setColor", Color.class);
 
-    public static void applyToItem(@NotNull ItemStack itemStack, @NotNull Map<String, Object> attributes) {
+    static @NotNull Component buildName(@NotNull AlpinePlugin plugin, @Nullable String name,
+                                        @Nullable OfflinePlayer targetPlayer, @Nullable OfflinePlayer otherPlayer,
+                                        @NotNull Object[] placeholders) {
+        return buildName(plugin, compileName(plugin, name), targetPlayer, otherPlayer, placeholders);
+    }
 
-        // Add enchantments from attributes
-        ENCHANTMENTS.forEach((key, enchantment) -> {
-            Object attrib = attributes.get(key);
-            if (attrib == null) {
-                return;
-            }
+    static @NotNull Component buildName(@NotNull AlpinePlugin plugin, @NotNull MessageTemplate name,
+                                        @Nullable OfflinePlayer targetPlayer, @Nullable OfflinePlayer otherPlayer,
+                                        @NotNull Object[] placeholders) {
+        TagResolver.Builder components = TagResolver.builder();
+        String replacedName = render(plugin, name, components, targetPlayer, otherPlayer, placeholders);
+        return Components.reset().append(plugin.getComponentCache().deserialize(replacedName, components.build()));
+    }
 
-            itemStack.addUnsafeEnchantment(enchantment.get(), Integer.parseInt(attrib.toString()));
-        });
+    static @NotNull List<Component> buildLore(@NotNull AlpinePlugin plugin, @Nullable List<String> lore,
+                                              @Nullable OfflinePlayer targetPlayer, @Nullable OfflinePlayer otherPlayer,
+                                              @NotNull Object[] placeholders) {
+        return buildLore(plugin, compileLore(plugin, lore), targetPlayer, otherPlayer, placeholders);
+    }
 
-        ItemMeta itemMeta = itemStack.getItemMeta();
+    static @NotNull List<Component> buildLore(@NotNull AlpinePlugin plugin, @NotNull MessageTemplate lore,
+                                              @Nullable OfflinePlayer targetPlayer, @Nullable OfflinePlayer otherPlayer,
+                                              @NotNull Object[] placeholders) {
+        TagResolver.Builder components = TagResolver.builder();
+        String joinedLore = render(plugin, lore, components, targetPlayer, otherPlayer, placeholders);
+
+        ComponentCache cache = plugin.getComponentCache();
+        TagResolver resolver = components.build();
+        List<Component> lines = new ArrayList<>();
+        for (String line : joinedLore.split("\n|<br>")) {
+            lines.add(Components.reset().append(cache.deserialize(line.isEmpty() ? " " : line, resolver)));
+        }
+        return lines;
+    }
 
-        // Add ItemFlags from attributes
-        FLAGS.forEach((key, flag) -> {
-            Object attrib = attributes.get(key);
-            if (attrib == null || "false".equals(attributes.getOrDefault(key, "false").toString())) {
-                return;
-            }
+    static @NotNull MessageTemplate compileName(@NotNull AlpinePlugin plugin, @Nullable String name) {
+        return MessageTemplate.compile(name == null ? "" : name, plugin.getAlpineConfig().variables);
+    }
 
-            itemMeta.addItemFlags(flag.get());
-        });
-
-        // Add custom potion effects from attributes
-        if (itemMeta instanceof PotionMeta) {
-            // Iterate over effects
-            POTIONS.forEach((key, potion) -> {
-                Object attrib = attributes.get(key);
-                if (attrib == null) {
-                    return;
-                }
-
-                int duration, amplifier = 0;
-                if (attrib instanceof Number) {
-                    duration = ((Number) attrib).intValue();
-                }
-                else if (attrib instanceof Map) {
-                    Map<String, Integer> effect = (Map<String, Integer>) attrib;
-                    duration = effect.getOrDefault("duration", 0);
-                    amplifier = effect.getOrDefault("amplifier", 0);
-                }
-                else {
-                    String[] split = attrib.toString().split(" ");
-                    duration = Integer.parseInt(split[0]);
-                    if (split.length > 1) {
-                        amplifier = Integer.parseInt(split[1]);
-                    }
-                }
-
-                PotionMeta potionMeta = (PotionMeta) itemMeta;
-                potionMeta.addCustomEffect(potion.buildPotionEffect(duration * 20, amplifier), true);
-                setPrimaryType(potionMeta, potion);
-            });
-
-            // Set the potion color
-            Object potionColor = attributes.get("potion_color");
-            if (potionColor != null && PotionMeta$setColor != null) {
-                int color = 0;
-                if (potionColor instanceof Number) {
-                    color = ((Number) potionColor).intValue();
-                }
-                else if (potionColor instanceof String) {
-                    color = Integer.parseInt(potionColor.toString(), 16);
-                }
-                ReflectionHelper.invokeMethod(PotionMeta$setColor, itemMeta, Color.fromRGB(color));
-            }
+    static @NotNull MessageTemplate compileLore(@NotNull AlpinePlugin plugin, @Nullable List<String> lore) {
+        String joinedLore = lore == null || lore.isEmpty() ? "" : String.join("\n", lore);
+        return MessageTemplate.compile(joinedLore, plugin.getAlpineConfig().variables);
+    }
 
-            // Set the primary effect
-            Object primaryEffect = attributes.get("primary_effect");
-            if (primaryEffect != null) {
-                XPotion.matchXPotion((String) primaryEffect).ifPresent(potion -> {
-                    if (!potion.isSupported()) {
-                        return;
-                    }
+    @SuppressWarnings("unchecked")
+    private static @NotNull String render(@NotNull AlpinePlugin plugin, @NotNull MessageTemplate template,
+                                          @NotNull TagResolver.Builder components, @Nullable OfflinePlayer targetPlayer,
+                                          @Nullable OfflinePlayer otherPlayer, @NotNull Object[] placeholders) {
+        MiniMessage miniMessage = plugin.getStrictMiniMessage();
+        String rendered = placeholders.length == 1 && placeholders[0] instanceof Map
+                ? template.render(miniMessage, components, (Map<String, Object>) placeholders[0])
+                : template.render(miniMessage, components, placeholders);
+
+        PlaceholderIntegration integration = plugin.getActivatable(PlaceholderIntegration.class);
+        if (integration != null) {
+            rendered = integration.replace(targetPlayer, otherPlayer, true, rendered);
+        }
+        return rendered;
+    }
 
-                    setPrimaryType((PotionMeta) itemMeta, potion);
-                });
-            }
+    /**
+     * Applies the name, lore, enchantment glint and attributes of an item to the given editor.
+     */
+    static @NotNull ItemMetaEditor applyAll(@NotNull ConfigItem item, @NotNull ItemMetaEditor editor,
+                                            @Nullable Component name, @Nullable List<Component> lore) {
+        if (name != null) {
+            editor.displayName(name);
+        }
+        if (lore != null) {
+            editor.lore(lore);
+        }
 
-            // Hide effects on item
-            // TODO: idk if I should straight up remove this, as FLAGS could replace the need for this @BestBearr
-            if ("true".equals(attributes.getOrDefault("hide_effects", "false").toString())) {
-                itemMeta.addItemFlags(XItemFlag.HIDE_ADDITIONAL_TOOLTIP.get());
-            }
+        // apply enchantments
+        if (item.isEnchanted()) {
+            editor.enchant(Enchantment.LURE, 1).flags(XItemFlag.HIDE_ENCHANTS.get());
         }
 
-        // Apply skull meta
-        if (itemMeta instanceof SkullMeta && attributes.containsKey("skull_profile")) {
-            Profileable profileable = Profileable.detect(attributes.get("skull_profile").toString());
-            XSkull.of(itemMeta).profile(profileable).apply();
+        // apply custom attributes
+        Map<String, Object> attributes = item.getAttributes();
+        if (editor.getMeta() != null && attributes != null && !attributes.isEmpty()) {
+            applyToMeta(editor.getMeta(), attributes);
         }
 
+        return editor;
+    }
+
+    public static void applyToItem(@NotNull ItemStack itemStack, @NotNull Map<String, Object> attributes) {
+        ItemMeta itemMeta = itemStack.getItemMeta();
+        if (itemMeta == null) {
+            return;
+        }
+
+        applyToMeta(itemMeta, attributes);
+
         // Update the item meta regardless of edits
         itemStack.setItemMeta(itemMeta);
     }
 
-    private static void setPrimaryType(@NotNull PotionMeta meta, @NotNull XPotion type) {
+    public static void applyToMeta(@NotNull ItemMeta itemMeta, @NotNull Map<String, Object> attributes) {
+        ItemAttributes.of(attributes).apply(itemMeta);
+    }
+
+    static void setPrimaryType(@NotNull PotionMeta meta, @NotNull XPotion type) {
         if (PotionMeta$setBasePotionType != null) {
             ReflectionHelper.invokeMethod(PotionMeta$setBasePotionType, meta, type.getPotionType());
         }
@@ -164,6 +180,12 @@ else if (PotionMeta$setBasePotionData != null && PotionData$init != null) {
         }
     }
 
+    static void setColor(@NotNull PotionMeta meta, @NotNull Color color) {
+        if (PotionMeta$setColor != null) {
+            ReflectionHelper.invokeMethod(PotionMeta$setColor, meta, color);
+        }
+    }
+
     static {
         for (XEnchantment enchantment : XEnchantment.values()) {
             if (enchantment.isSupported()) {
@@ -16,7 +16,7 @@
 import com.cryptomorin.xseries.XPotion;
 import de.exlll.configlib.Configuration;
 import de.exlll.configlib.SerializeWith;
-import lombok.AllArgsConstructor;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.RequiredArgsConstructor;
@@ -58,7 +58,7 @@
  *
  * @since 0.4.0
  */
-@NoArgsConstructor @AllArgsConstructor @Getter
+@NoArgsConstructor @Getter
 @Configuration @SerializeWith(serializer = DefinedConfigItem.Adapter.class)
 public class DefinedConfigItem implements ConfigItem {
 
@@ -74,6 +74,65 @@ public class DefinedConfigItem implements ConfigItem {
 
     protected Map<String, Object> attributes;
 
+    /** The prebuilt static portion of this item */
+    @Getter(AccessLevel.NONE)
+    private transient volatile ItemPrototype prototype;
+
+    public DefinedConfigItem(XMaterial type, String name, List<String> lore, int count, boolean enchanted,
+                             Map<String, Object> attributes) {
+        this.type = type;
+        this.name = name;
+        this.lore = lore;
+        this.count = count;
+        this.enchanted = enchanted;
+        this.attributes = attributes;
+    }
+
+    /**
+     * Constructs an ItemStack based on the current configuration.
+     * <p>
+     * When built with this item's own material, the static portion of the item
+     * is built once and cloned for every subsequent build. The name and lore are
+     * only rendered per build if they contain placeholders.
+     * <p>
+     * Changes to the name, lore, attributes and other fields of this item,
+     * including edits made in place to its lore or attributes, cause the static
+     * portion to be rebuilt. Values nested within an attribute, such as the map
+     * of a potion effect, must be replaced rather than edited in place.
+     * <p>
+     * PlaceholderAPI placeholders are replaced by this method.
+     *
+     * @param plugin       The main plugin instance used for contextual operations
+     * @param type         The material type of the item
+     * @param count        The quantity of the item
+     * @param function     A function that can apply additional modifications to the ItemStack
+     * @param targetPlayer The target player
+     * @param otherPlayer  The relational player
+     * @param placeholders Optional placeholders for dynamic text replacement in item meta
+     * @return A fully constructed and optionally modified ItemStack
+     */
+    @Override
+    public @NotNull ItemStack build(
+            @NotNull AlpinePlugin plugin,
+            @Nullable XMaterial type,
+            int count,
+            @Nullable Function<ItemStack, ItemStack> function,
+            @Nullable OfflinePlayer targetPlayer,
+            @Nullable OfflinePlayer otherPlayer,
+            @NotNull Object... placeholders
+    ) {
+        if (type != this.type || !ItemPrototype.isSupported(type)) {
+            return ConfigItem.super.build(plugin, type, count, function, targetPlayer, otherPlayer, placeholders);
+        }
+
+        ItemPrototype prototype = this.prototype;
+        if (prototype == null || !prototype.isCurrent(plugin, this)) {
+            this.prototype = prototype = ItemPrototype.create(plugin, this);
+        }
+
+        return prototype.build(count, function, targetPlayer, otherPlayer, placeholders);
+    }
+
     /**
      * Constructs an ItemStack based on the current configuration.
      *
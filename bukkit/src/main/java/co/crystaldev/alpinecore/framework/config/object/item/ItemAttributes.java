@@ -0,0 +1,224 @@
+/*
+ * This file is part of AlpineCore - https://github.com/alpine-network/alpine-core
+ * Copyright (C) 2025 Crystal Development, LLC
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+package co.crystaldev.alpinecore.framework.config.object.item;
+
+import com.cryptomorin.xseries.XEnchantment;
+import com.cryptomorin.xseries.XItemFlag;
+import com.cryptomorin.xseries.XPotion;
+import com.cryptomorin.xseries.profiles.builder.XSkull;
+import com.cryptomorin.xseries.profiles.objects.Profileable;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import org.bukkit.Color;
+import org.bukkit.enchantments.Enchantment;
+import org.bukkit.inventory.ItemFlag;
+import org.bukkit.inventory.meta.ItemMeta;
+import org.bukkit.inventory.meta.PotionMeta;
+import org.bukkit.inventory.meta.SkullMeta;
+import org.bukkit.potion.PotionEffect;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * The attributes of a {@link ConfigItem}, compiled into the operations
+ * which apply them to an item.
+ * <p>
+ * Attribute values are parsed once when compiled, and only the attributes
+ * present on the item are applied. Potion and skull attributes are only
+ * compiled once they are first applied to a potion or skull, so invalid
+ * values for them are ignored on any other item. Compiled attributes are
+ * cached for as long as their attribute map is reachable, and are compiled
+ * again if the map is modified.
+ *
+ * @since 0.4.10
+ */
+final class ItemAttributes {
+
+    /** Compiled attributes keyed by the identity of their attribute map */
+    private static final Cache<Map<String, Object>, ItemAttributes> CACHE = CacheBuilder.newBuilder()
+            .weakKeys()
+            .build();
+
+    /** A copy of the attributes these were compiled from */
+    private final Map<String, Object> source;
+
+    private final List<Consumer<ItemMeta>> operations;
+
+    private volatile List<Consumer<PotionMeta>> potionOperations;
+
+    private volatile Profileable skullProfile;
+
+    private ItemAttributes(@NotNull Map<String, Object> source, @NotNull List<Consumer<ItemMeta>> operations) {
+        this.source = source;
+        this.operations = operations;
+    }
+
+    /**
+     * Applies every compiled attribute to the given meta.
+     *
+     * @param meta the item meta
+     */
+    void apply(@NotNull ItemMeta meta) {
+        for (Consumer<ItemMeta> operation : this.operations) {
+            operation.accept(meta);
+        }
+
+        if (meta instanceof PotionMeta) {
+            PotionMeta potionMeta = (PotionMeta) meta;
+            for (Consumer<PotionMeta> operation : this.getPotionOperations()) {
+                operation.accept(potionMeta);
+            }
+        }
+
+        // Apply skull meta
+        Object skullProfile = this.source.get("skull_profile");
+        if (meta instanceof SkullMeta && skullProfile != null) {
+            Profileable profileable = this.skullProfile;
+            if (profileable == null) {
+                this.skullProfile = profileable = Profileable.detect(skullProfile.toString());
+            }
+            XSkull.of(meta).profile(profileable).apply();
+        }
+    }
+
+    /**
+     * Retrieves the compiled form of the given attributes, compiling them if necessary.
+     *
+     * @param attributes the attributes
+     * @return the compiled attributes
+     */
+    static @NotNull ItemAttributes of(@NotNull Map<String, Object> attributes) {
+        ItemAttributes compiled = CACHE.getIfPresent(attributes);
+        if (compiled == null || !compiled.source.equals(attributes)) {
+            compiled = compile(attributes);
+            CACHE.put(attributes, compiled);
+        }
+        return compiled;
+    }
+
+    private static @NotNull ItemAttributes compile(@NotNull Map<String, Object> attributes) {
+        // operations are grouped by kind, as they were applied before being compiled
+        List<Consumer<ItemMeta>> enchantments = new ArrayList<>();
+        List<Consumer<ItemMeta>> flags = new ArrayList<>();
+
+        for (Map.Entry<String, Object> entry : attributes.entrySet()) {
+            String key = entry.getKey();
+            Object attrib = entry.getValue();
+            if (attrib == null) {
+                continue;
+            }
+
+            // Add enchantments from attributes
+            XEnchantment enchantment = ConfigItemHelper.ENCHANTMENTS.get(key);
+            if (enchantment != null) {
+                Enchantment type = enchantment.get();
+                int level = Integer.parseInt(attrib.toString());
+                enchantments.add(meta -> meta.addEnchant(type, level, true));
+                continue;
+            }
+
+            // Add ItemFlags from attributes
+            XItemFlag flag = ConfigItemHelper.FLAGS.get(key);
+            if (flag != null && !"false".equals(attrib.toString())) {
+                ItemFlag type = flag.get();
+                flags.add(meta -> meta.addItemFlags(type));
+            }
+        }
+
+        List<Consumer<ItemMeta>> operations = new ArrayList<>(enchantments.size() + flags.size());
+        operations.addAll(enchantments);
+        operations.addAll(flags);
+        return new ItemAttributes(new HashMap<>(attributes), operations);
+    }
+
+    private @NotNull List<Consumer<PotionMeta>> getPotionOperations() {
+        List<Consumer<PotionMeta>> operations = this.potionOperations;
+        if (operations == null) {
+            this.potionOperations = operations = this.compilePotion();
+        }
+        return operations;
+    }
+
+    @SuppressWarnings("unchecked")
+    private @NotNull List<Consumer<PotionMeta>> compilePotion() {
+        Map<String, Object> attributes = this.source;
+        List<Consumer<PotionMeta>> operations = new ArrayList<>();
+
+        // Add custom potion effects from attributes
+        for (Map.Entry<String, Object> entry : attributes.entrySet()) {
+            XPotion potion = ConfigItemHelper.POTIONS.get(entry.getKey());
+            Object attrib = entry.getValue();
+            if (potion == null || attrib == null) {
+                continue;
+            }
+
+            int duration, amplifier = 0;
+            if (attrib instanceof Number) {
+                duration = ((Number) attrib).intValue();
+            }
+            else if (attrib instanceof Map) {
+                Map<String, Integer> effect = (Map<String, Integer>) attrib;
+                duration = effect.getOrDefault("duration", 0);
+                amplifier = effect.getOrDefault("amplifier", 0);
+            }
+            else {
+                String[] split = attrib.toString().split(" ");
+                duration = Integer.parseInt(split[0]);
+                if (split.length > 1) {
+                    amplifier = Integer.parseInt(split[1]);
+                }
+            }
+
+            PotionEffect effect = potion.buildPotionEffect(duration * 20, amplifier);
+            operations.add(meta -> {
+                meta.addCustomEffect(effect, true);
+                ConfigItemHelper.setPrimaryType(meta, potion);
+            });
+        }
+
+        // Set the potion color
+        Object potionColor = attributes.get("potion_color");
+        if (potionColor != null && ConfigItemHelper.PotionMeta$setColor != null) {
+            int rgb = 0;
+            if (potionColor instanceof Number) {
+                rgb = ((Number) potionColor).intValue();
+            }
+            else if (potionColor instanceof String) {
+                rgb = Integer.parseInt(potionColor.toString(), 16);
+            }
+
+            Color color = Color.fromRGB(rgb);
+            operations.add(meta -> ConfigItemHelper.setColor(meta, color));
+        }
+
+        // Set the primary effect
+        Object primaryEffect = attributes.get("primary_effect");
+        if (primaryEffect != null) {
+            Optional<XPotion> match = XPotion.matchXPotion((String) primaryEffect);
+            if (match.isPresent() && match.get().isSupported()) {
+                XPotion potion = match.get();
+                operations.add(meta -> ConfigItemHelper.setPrimaryType(meta, potion));
+            }
+        }
+
+        // Hide effects on item
+        if ("true".equals(attributes.getOrDefault("hide_effects", "false").toString())) {
+            ItemFlag flag = XItemFlag.HIDE_ADDITIONAL_TOOLTIP.get();
+            operations.add(meta -> meta.addItemFlags(flag));
+        }
+
+        return operations;
+    }
+}
@@ -0,0 +1,154 @@
+/*
+ * This file is part of AlpineCore - https://github.com/alpine-network/alpine-core
+ * Copyright (C) 2025 Crystal Development, LLC
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+package co.crystaldev.alpinecore.framework.config.object.item;
+
+import co.crystaldev.alpinecore.AlpinePlugin;
+import co.crystaldev.alpinecore.framework.config.AlpinePluginConfig;
+import co.crystaldev.alpinecore.util.ItemMetaEditor;
+import co.crystaldev.alpinecore.util.ItemMetaFunction;
+import co.crystaldev.alpinecore.util.MessageTemplate;
+import com.cryptomorin.xseries.XMaterial;
+import net.kyori.adventure.text.Component;
+import org.bukkit.OfflinePlayer;
+import org.bukkit.inventory.ItemStack;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * The prebuilt static portion of a {@link DefinedConfigItem}.
+ * <p>
+ * The material, enchantments and attributes of an item are applied once to a
+ * prototype stack, which is then cloned for every build. The name and lore are
+ * compiled into templates, and each is only rendered per build if it contains
+ * placeholders. Otherwise, it is applied to the prototype as well.
+ * <p>
+ * A prototype is tied to the configuration it was built from, and must be
+ * rebuilt if the item or the plugin configuration is replaced. The lore and
+ * attributes are copied when the prototype is built, so that edits made to
+ * them in place are also detected.
+ *
+ * @since 0.4.10
+ */
+final class ItemPrototype {
+
+    private static final Object[] NO_PLACEHOLDERS = new Object[0];
+
+    private final AlpinePlugin plugin;
+
+    private final AlpinePluginConfig config;
+
+    // the configuration the prototype was built from
+    private final XMaterial type;
+    private final String nameText;
+    private final List<String> loreText;
+    private final boolean enchanted;
+    private final Map<String, Object> attributes;
+
+    private final MessageTemplate name;
+
+    private final MessageTemplate lore;
+
+    private final ItemStack stack;
+
+    /** Whether the name is already applied to the prototype stack */
+    private final boolean staticName;
+
+    /** Whether the lore is already applied to the prototype stack */
+    private final boolean staticLore;
+
+    private ItemPrototype(@NotNull AlpinePlugin plugin, @NotNull DefinedConfigItem item) {
+        this.plugin = plugin;
+        this.config = plugin.getAlpineConfig();
+        this.type = item.getType();
+        this.nameText = item.getName();
+        this.loreText = item.getLore() == null ? null : new ArrayList<>(item.getLore());
+        this.enchanted = item.isEnchanted();
+        this.attributes = item.getAttributes() == null ? null : new HashMap<>(item.getAttributes());
+        this.name = ConfigItemHelper.compileName(plugin, item.getName());
+        this.lore = ConfigItemHelper.compileLore(plugin, item.getLore());
+        this.staticName = !this.name.hasPlaceholders();
+        this.staticLore = !this.lore.hasPlaceholders();
+
+        // construct the static portion of the item
+        Component name = this.staticName ? ConfigItemHelper.buildName(plugin, this.name, null, null, NO_PLACEHOLDERS) : null;
+        List<Component> lore = this.staticLore ? ConfigItemHelper.buildLore(plugin, this.lore, null, null, NO_PLACEHOLDERS) : null;
+
+        ItemMetaEditor editor = ItemMetaEditor.edit(this.type.parseItem());
+        this.stack = ConfigItemHelper.applyAll(item, editor, name, lore).commit();
+    }
+
+    /**
+     * Builds a new item from this prototype.
+     *
+     * @param count        The quantity of the item
+     * @param function     A function that can apply additional modifications to the ItemStack
+     * @param targetPlayer The target player
+     * @param otherPlayer  The relational player
+     * @param placeholders Placeholders for dynamic text replacement in item meta
+     * @return The built item
+     */
+    @NotNull ItemStack build(int count, @Nullable Function<ItemStack, ItemStack> function,
+                             @Nullable OfflinePlayer targetPlayer, @Nullable OfflinePlayer otherPlayer,
+                             @NotNull Object[] placeholders) {
+        ItemStack stack = this.stack.clone();
+        stack.setAmount(Math.max(Math.min(stack.getMaxStackSize(), count), 1));
+
+        // the meta only needs to be edited for dynamic text or hooks that join the edit
+        if (this.staticName && this.staticLore && !(function instanceof ItemMetaFunction)) {
+            return function == null ? stack : function.apply(stack);
+        }
+
+        ItemMetaEditor editor = ItemMetaEditor.edit(stack);
+        if (!this.staticName) {
+            editor.displayName(ConfigItemHelper.buildName(this.plugin, this.name, targetPlayer, otherPlayer, placeholders));
+        }
+        if (!this.staticLore) {
+            editor.lore(ConfigItemHelper.buildLore(this.plugin, this.lore, targetPlayer, otherPlayer, placeholders));
+        }
+        return editor.commit(function);
+    }
+
+    /**
+     * Checks whether this prototype still reflects the given item and plugin.
+     *
+     * @param plugin The plugin the item is built by
+     * @param item   The item
+     * @return Whether this prototype may be used
+     */
+    boolean isCurrent(@NotNull AlpinePlugin plugin, @NotNull DefinedConfigItem item) {
+        return this.plugin == plugin
+                && this.config == plugin.getAlpineConfig()
+                && this.type == item.getType()
+                && Objects.equals(this.nameText, item.getName())
+                && Objects.equals(this.loreText, item.getLore())
+                && this.enchanted == item.isEnchanted()
+                && Objects.equals(this.attributes, item.getAttributes());
+    }
+
+    /**
+     * Checks whether an item may be built from a prototype.
+     *
+     * @param type The material of the item
+     * @return Whether a prototype may be used
+     */
+    static boolean isSupported(@Nullable XMaterial type) {
+        return type != null && type != XMaterial.AIR && type.isSupported();
+    }
+
+    static @NotNull ItemPrototype create(@NotNull AlpinePlugin plugin, @NotNull DefinedConfigItem item) {
+        return new ItemPrototype(plugin, item);
+    }
+}
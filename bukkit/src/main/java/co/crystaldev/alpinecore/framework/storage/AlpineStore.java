@@ -19,9 +19,7 @@
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import java.util.Collection;
-import java.util.HashMap;
-import java.util.Map;
+import java.util.*;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 import java.util.logging.Level;
@@ -40,8 +38,6 @@
  */
 @ApiStatus.Experimental
 public abstract class AlpineStore<K, D> implements Activatable {
-    // TODO: allow plugins to change this?
-    private static final long PERSIST_TASK_PERIOD = 3600L; // ~3m in ticks
 
     /** The plugin that activated this store */
     protected final AlpinePlugin plugin;
@@ -49,9 +45,14 @@
     private final AlpineDriver<K, D> driver;
     private final LoadingCache<K, D> readCache;
     private final Map<K, D> writeCache;
+    private final long flushInterval;
+    private final @Nullable StoreJournal<K, D> journal;
 
     private int taskId;
 
+    /** The key type, required for key queries */
+    private final @Nullable Class<K> keyType;
+
     /**
      * Simple constructor using the default caching strategy.
      * <p>
@@ -80,8 +81,49 @@ protected AlpineStore(AlpinePlugin plugin, AlpineDriver<K, D> driver) {
      * @since 0.1.0
      */
     protected AlpineStore(AlpinePlugin plugin, AlpineDriver<K, D> driver, CachingStrategy strategy) {
+        this(plugin, driver, strategy, null, null);
+    }
+
+    /**
+     * Constructor that allows the configuration of a caching strategy
+     * and the key type, which is required for key queries.
+     * <p>
+     * Locked down to prevent improper instantiation.
+     * <p>
+     * Stores are reflectively instantiated by the
+     * framework automatically.
+     *
+     * @param driver the storage driver
+     * @param strategy the strategy used by the caching layer
+     * @param keyType the key type
+     * @since 0.4.10
+     */
+    protected AlpineStore(AlpinePlugin plugin, AlpineDriver<K, D> driver, CachingStrategy strategy, @NotNull Class<K> keyType) {
+        this(plugin, driver, strategy, keyType, null);
+    }
+
+    /**
+     * Constructor that allows the configuration of a caching strategy,
+     * the key type and a write-ahead journal for crash recovery.
+     * <p>
+     * Locked down to prevent improper instantiation.
+     * <p>
+     * Stores are reflectively instantiated by the
+     * framework automatically.
+     *
+     * @param driver the storage driver
+     * @param strategy the strategy used by the caching layer
+     * @param keyType the key type, or null if key queries are not used
+     * @param journal the journal unflushed entries are recorded to
+     * @since 0.4.10
+     */
+    protected AlpineStore(AlpinePlugin plugin, AlpineDriver<K, D> driver, CachingStrategy strategy,
+                          @Nullable Class<K> keyType, @Nullable StoreJournal<K, D> journal) {
         this.plugin = plugin;
         this.driver = driver;
+        this.keyType = keyType;
+        this.flushInterval = strategy.getFlushIntervalTicks();
+        this.journal = journal;
         this.readCache = CacheBuilder.newBuilder()
                 .maximumSize(strategy.getMaximumSize())
                 .expireAfterAccess(strategy.getExpireTimeValue(), strategy.getExpireTimeUnit())
@@ -187,6 +229,105 @@ protected AlpineStore(AlpinePlugin plugin, AlpineDriver<K, D> driver, CachingStr
         return this.driver.getAllEntries(exceptionHandler);
     }
 
+    /**
+     * Creates a migration which copies every entry from this store's
+     * driver to another driver.
+     * <p>
+     * The write cache is flushed first so that the migration
+     * includes every entry stored so far.
+     *
+     * @see DriverMigration
+     * @param target The driver to copy entries to
+     * @return A migration builder with the source driver configured
+     * @since 0.4.10
+     */
+    public final @NotNull DriverMigration.Builder<D> migrateTo(@NotNull AlpineDriver<?, D> target) {
+        this.flush();
+        return DriverMigration.<D>builder()
+                .source(this.driver)
+                .target(target);
+    }
+
+    /**
+     * Count the entries in the underlying data storage.
+     * <p>
+     * Entries which have not yet been flushed from the write cache are
+     * not included. It may be a blocking task.
+     *
+     * @see AlpineDriver#countEntries()
+     * @return The number of stored entries.
+     * @throws Exception If an exception occurs while counting the entries.
+     * @since 0.4.10
+     */
+    public final long count() throws Exception {
+        return this.driver.countEntries();
+    }
+
+    /**
+     * Retrieve a page of keys from the underlying data storage,
+     * ordered by their serialized form.
+     * <p>
+     * Entries which have not yet been flushed from the write cache are
+     * not included. It may be a blocking task.
+     *
+     * @see AlpineDriver#getKeys(int, int)
+     * @param offset The number of keys to skip.
+     * @param limit  The maximum number of keys to retrieve.
+     * @return The keys.
+     * @throws Exception If an exception occurs while retrieving the keys.
+     * @throws UnsupportedOperationException If the store was not constructed with its key type.
+     * @since 0.4.10
+     */
+    public final @NotNull List<K> keys(int offset, int limit) throws Exception {
+        Class<K> keyType = this.getKeyType();
+        SerializerRegistry registry = this.plugin.getSerializerRegistry();
+
+        List<K> keys = new ArrayList<>();
+        for (String serializedKey : this.driver.getKeys(offset, limit)) {
+            keys.add(registry.deserializeKey(keyType, serializedKey));
+        }
+        return keys;
+    }
+
+    /**
+     * Retrieve a page of entries from the underlying data storage whose keys
+     * fall within a range, ordered by the serialized form of their keys.
+     * <p>
+     * Only keys which serialize to strings are supported, as the serialized
+     * form of numeric keys does not order numerically.
+     * <p>
+     * Entries which have not yet been flushed from the write cache are
+     * not included. It may be a blocking task.
+     *
+     * @see AlpineDriver#getEntries(String, String, int, int)
+     * @param from   The inclusive lower bound, or null for no lower bound.
+     * @param to     The exclusive upper bound, or null for no upper bound.
+     * @param offset The number of entries within the range to skip.
+     * @param limit  The maximum number of entries to retrieve.
+     * @return An ordered map of keys and their data.
+     * @throws Exception If an exception occurs while retrieving the entries.
+     * @throws UnsupportedOperationException If the store was not constructed with its key type,
+     *                                       or its keys do not serialize to strings.
+     * @since 0.4.10
+     */
+    public final @NotNull Map<K, D> range(@Nullable K from, @Nullable K to, int offset, int limit) throws Exception {
+        Class<K> keyType = this.getKeyType();
+        SerializerRegistry registry = this.plugin.getSerializerRegistry();
+        if (registry.getSerializedKeyType(keyType) != String.class) {
+            throw new UnsupportedOperationException(String.format("Range queries are not supported for %s keys, which do not order by their serialized form",
+                    keyType.getSimpleName()));
+        }
+
+        Map<String, D> entries = this.driver.getEntries(
+                from == null ? null : registry.serializeKey(from),
+                to == null ? null : registry.serializeKey(to),
+                offset, limit);
+
+        Map<K, D> deserialized = new LinkedHashMap<>();
+        entries.forEach((key, value) -> deserialized.put(registry.deserializeKey(keyType, key), value));
+        return deserialized;
+    }
+
     /**
      * Check if data exists for a given key.
      *
@@ -209,6 +350,9 @@ else if (this.readCache.asMap().containsKey(key))
      * @return whether the operation was successful
      */
     public final boolean remove(@NotNull K key) {
+        if (this.journal != null) {
+            this.journal.appendRemove(key);
+        }
         this.writeCache.remove(key);
         this.readCache.invalidate(key);
         return this.driver.deleteEntry(key);
@@ -224,6 +368,9 @@ public final boolean remove(@NotNull K key) {
      * @param data the data
      */
     public final void put(@NotNull K key, @NotNull D data) {
+        if (this.journal != null) {
+            this.journal.appendPut(key, data);
+        }
         this.writeCache.put(key, data);
         this.readCache.refresh(key);
     }
@@ -234,17 +381,25 @@ public final void put(@NotNull K key, @NotNull D data) {
      * This method is responsible for persisting data entries that have been cached
      * but not yet saved to the underlying data storage. It attempts to persist the
      * entries and clears the cache.
+     * <p>
+     * If the store is journaled, the journal is truncated up to the entries
+     * being flushed once they have been successfully persisted. If they could
+     * not be persisted, they are kept in the cache and retried on the next flush.
      *
      * @return whether the operation was successful
      */
     public boolean flush() {
-        boolean success = true;
+        long mark = this.journal == null ? 0L : this.journal.mark();
         if (!this.driver.persistEntries(this.writeCache)) {
             this.plugin.log(Level.SEVERE, String.format("&cError persisting value in %s", this.getClass().getSimpleName()));
-            success = false;
+            return false;
+        }
+
+        if (this.journal != null) {
+            this.journal.truncate(mark);
         }
         this.writeCache.clear();
-        return success;
+        return true;
     }
 
     /**
@@ -274,7 +429,11 @@ public boolean flush(@NotNull K key) {
 
     @Override
     public final void activate(@NotNull AlpinePlugin context) {
-        this.taskId = Bukkit.getScheduler().scheduleSyncRepeatingTask(this.plugin, this::flush, 1L, PERSIST_TASK_PERIOD);
+        if (this.journal != null) {
+            this.replayJournal();
+        }
+
+        this.taskId = Bukkit.getScheduler().scheduleSyncRepeatingTask(this.plugin, this::flush, 1L, this.flushInterval);
 
         if (this.taskId != -1)
             this.plugin.log(String.format("&aStore activated &d%s", this.getClass().getSimpleName()));
@@ -286,6 +445,9 @@ public final void activate(@NotNull AlpinePlugin context) {
     public final void deactivate(@NotNull AlpinePlugin context) {
         Bukkit.getScheduler().cancelTask(this.taskId);
         this.flush();
+        if (this.journal != null) {
+            this.journal.close();
+        }
         this.driver.shutdown();
         this.readCache.invalidateAll();
         this.taskId = -1;
@@ -296,4 +458,32 @@ public final void deactivate(@NotNull AlpinePlugin context) {
     public final boolean isActive() {
         return this.taskId != -1;
     }
+
+    private @NotNull Class<K> getKeyType() {
+        if (this.keyType == null) {
+            throw new UnsupportedOperationException(String.format("%s must be constructed with its key type to support key queries",
+                    this.getClass().getSimpleName()));
+        }
+        return this.keyType;
+    }
+
+    private void replayJournal() {
+        int replayed;
+        try {
+            replayed = this.journal.open(this.writeCache::put, key -> {
+                this.writeCache.remove(key);
+                this.driver.deleteEntry(key);
+            });
+        }
+        catch (Exception ex) {
+            this.plugin.log(String.format("&cError opening journal for &d%s", this.getClass().getSimpleName()), ex);
+            this.plugin.log(Level.WARNING, String.format("&cStore &d%s&c is running without a journal", this.getClass().getSimpleName()));
+            return;
+        }
+
+        if (replayed > 0) {
+            this.plugin.log(String.format("&eReplayed &d%d&e journal entries in &d%s", replayed, this.getClass().getSimpleName()));
+            this.flush();
+        }
+    }
 }
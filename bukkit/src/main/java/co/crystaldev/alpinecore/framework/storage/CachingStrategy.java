@@ -29,12 +29,27 @@ public final class CachingStrategy {
     private final long expireTimeValue;
     private final TimeUnit expireTimeUnit;
     private final int concurrencyLevel;
+    private final long flushIntervalValue;
+    private final TimeUnit flushIntervalUnit;
 
-    private CachingStrategy(long maximumSize, long expireTimeValue, @NotNull TimeUnit expireTimeUnit, int concurrencyLevel) {
+    private CachingStrategy(long maximumSize, long expireTimeValue, @NotNull TimeUnit expireTimeUnit, int concurrencyLevel,
+                            long flushIntervalValue, @NotNull TimeUnit flushIntervalUnit) {
         this.maximumSize = maximumSize;
         this.expireTimeValue = expireTimeValue;
         this.expireTimeUnit = expireTimeUnit;
         this.concurrencyLevel = concurrencyLevel;
+        this.flushIntervalValue = flushIntervalValue;
+        this.flushIntervalUnit = flushIntervalUnit;
+    }
+
+    /**
+     * Gets the interval between write cache flushes in server ticks.
+     *
+     * @return the flush interval in ticks
+     * @since 0.4.10
+     */
+    public long getFlushIntervalTicks() {
+        return Math.max(1L, this.flushIntervalUnit.toMillis(this.flushIntervalValue) / 50L);
     }
 
     /**
@@ -57,6 +72,8 @@ public static final class Builder {
         private long expireTimeValue = 30;
         private TimeUnit expireTimeUnit = TimeUnit.MINUTES;
         private int concurrencyLevel = 1;
+        private long flushIntervalValue = 3;
+        private TimeUnit flushIntervalUnit = TimeUnit.MINUTES;
 
         /**
          * @see com.google.common.cache.CacheBuilder#maximumSize(long)
@@ -106,11 +123,30 @@ public static final class Builder {
             return this;
         }
 
+        /**
+         * Sets how often the write cache is flushed to the underlying driver.
+         * <p>
+         * Longer intervals reduce load on the backing storage, but risk losing
+         * more unflushed entries on a crash unless the store is journaled.
+         *
+         * @see StoreJournal
+         * @since 0.4.10
+         */
+        @Contract("_, _ -> this")
+        public @NotNull Builder flushInterval(long flushIntervalValue, @NotNull TimeUnit flushIntervalUnit) {
+            Validate.isTrue(flushIntervalValue > 0);
+            Validate.notNull(flushIntervalUnit);
+            this.flushIntervalValue = flushIntervalValue;
+            this.flushIntervalUnit = flushIntervalUnit;
+            return this;
+        }
+
         /**
          * @return The newly constructed {@link CachingStrategy}
          */
         public @NotNull CachingStrategy build() {
-            return new CachingStrategy(this.maximumSize, this.expireTimeValue, this.expireTimeUnit, this.concurrencyLevel);
+            return new CachingStrategy(this.maximumSize, this.expireTimeValue, this.expireTimeUnit, this.concurrencyLevel,
+                    this.flushIntervalValue, this.flushIntervalUnit);
         }
     }
 }
@@ -0,0 +1,301 @@
+/*
+ * This file is part of AlpineCore - https://github.com/alpine-network/alpine-core
+ * Copyright (C) 2025 Crystal Development, LLC
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+package co.crystaldev.alpinecore.framework.storage;
+
+import co.crystaldev.alpinecore.AlpineCore;
+import co.crystaldev.alpinecore.framework.storage.driver.AlpineDriver;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.commons.lang.Validate;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * Copies every entry from one {@link AlpineDriver} to another.
+ * <p>
+ * Entries are streamed from the source in batches ordered by their serialized key,
+ * decoded by the source driver and re-encoded by the target driver, so the two
+ * drivers may use different formats. Batches are written to the target in parallel,
+ * with the number of batches in flight bounded by the parallelism.
+ * <p>
+ * If a checkpoint file is configured, the last serialized key of the contiguous
+ * range of written batches is recorded after each batch. An interrupted migration
+ * resumes from that key the next time it is run, and the checkpoint is deleted
+ * once the migration completes.
+ * <p>
+ * This is a blocking task and should never be run on the main thread.
+ *
+ * @param <D> the data type
+ *
+ * @see AlpineDriver#streamEntries(String, int, java.util.function.Predicate)
+ * @see AlpineDriver#persistSerializedEntries(Map)
+ * @since 0.4.10
+ */
+@ApiStatus.Experimental
+public final class DriverMigration<D> {
+
+    private final AlpineDriver<?, D> source;
+    private final AlpineDriver<?, D> target;
+    private final int batchSize;
+    private final int parallelism;
+    private final @Nullable File checkpointFile;
+    private final @Nullable Consumer<Progress> progressConsumer;
+
+    private DriverMigration(@NotNull AlpineDriver<?, D> source, @NotNull AlpineDriver<?, D> target, int batchSize,
+                            int parallelism, @Nullable File checkpointFile, @Nullable Consumer<Progress> progressConsumer) {
+        this.source = source;
+        this.target = target;
+        this.batchSize = batchSize;
+        this.parallelism = parallelism;
+        this.checkpointFile = checkpointFile;
+        this.progressConsumer = progressConsumer;
+    }
+
+    /**
+     * Runs the migration, blocking until every entry has been
+     * copied or a batch has failed to persist.
+     *
+     * @return The final progress of the migration
+     * @throws Exception If an exception occurs while reading from the source.
+     */
+    public @NotNull Progress run() throws Exception {
+        String resumeFrom = this.readCheckpoint();
+        ExecutorService executor = Executors.newFixedThreadPool(this.parallelism);
+        Semaphore inFlight = new Semaphore(this.parallelism);
+        State state = new State(resumeFrom, System.nanoTime());
+
+        try {
+            AtomicLong sequence = new AtomicLong();
+            this.source.streamEntries(resumeFrom, this.batchSize, batch -> {
+                if (state.failed.get()) {
+                    return false;
+                }
+
+                long index = sequence.getAndIncrement();
+                String lastKey = null;
+                for (String key : batch.keySet()) {
+                    lastKey = key;
+                }
+                String batchLastKey = lastKey;
+
+                inFlight.acquireUninterruptibly();
+                executor.execute(() -> {
+                    try {
+                        boolean success;
+                        try {
+                            success = this.target.persistSerializedEntries(batch);
+                        }
+                        catch (Exception ex) {
+                            AlpineCore.getInstance().log(String.format("Unable to migrate batch ending at key %s", batchLastKey), ex);
+                            success = false;
+                        }
+                        this.complete(state, index, batchLastKey, batch.size(), success);
+                    }
+                    finally {
+                        inFlight.release();
+                    }
+                });
+                return !state.failed.get();
+            });
+        }
+        finally {
+            executor.shutdown();
+            executor.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+        }
+
+        Progress progress = state.snapshot(true);
+        if (!progress.isFailed() && this.checkpointFile != null) {
+            Files.deleteIfExists(this.checkpointFile.toPath());
+        }
+        return progress;
+    }
+
+    private void complete(@NotNull State state, long index, @NotNull String lastKey, int count, boolean success) {
+        Progress progress;
+        synchronized (state) {
+            if (!success) {
+                state.failed.set(true);
+                return;
+            }
+
+            state.migrated += count;
+
+            // only advance the checkpoint over a contiguous range of written batches
+            state.completed.put(index, lastKey);
+            while (!state.completed.isEmpty() && state.completed.firstKey() == state.nextIndex) {
+                state.checkpoint = state.completed.remove(state.nextIndex);
+                state.nextIndex++;
+            }
+
+            this.writeCheckpoint(state.checkpoint);
+            progress = state.snapshot(false);
+        }
+
+        if (this.progressConsumer != null) {
+            this.progressConsumer.accept(progress);
+        }
+    }
+
+    private @Nullable String readCheckpoint() throws IOException {
+        if (this.checkpointFile == null || !this.checkpointFile.exists()) {
+            return null;
+        }
+
+        String key = new String(Files.readAllBytes(this.checkpointFile.toPath()), StandardCharsets.UTF_8).trim();
+        return key.isEmpty() ? null : key;
+    }
+
+    private void writeCheckpoint(@Nullable String key) {
+        if (this.checkpointFile == null || key == null) {
+            return;
+        }
+
+        try {
+            Files.write(this.checkpointFile.toPath(), key.getBytes(StandardCharsets.UTF_8));
+        }
+        catch (IOException ex) {
+            ex.printStackTrace();
+        }
+    }
+
+    /**
+     * Helper method to return a new builder instance.
+     *
+     * @see Builder
+     * @return New builder for this class
+     */
+    public static <D> @NotNull Builder<D> builder() {
+        return new Builder<>();
+    }
+
+    private static final class State {
+        final AtomicBoolean failed = new AtomicBoolean();
+        final TreeMap<Long, String> completed = new TreeMap<>();
+        final long startNanos;
+        long nextIndex;
+        long migrated;
+        String checkpoint;
+
+        State(@Nullable String checkpoint, long startNanos) {
+            this.checkpoint = checkpoint;
+            this.startNanos = startNanos;
+        }
+
+        @NotNull Progress snapshot(boolean complete) {
+            long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - this.startNanos);
+            return new Progress(this.migrated, elapsed, this.checkpoint, complete && !this.failed.get(), this.failed.get());
+        }
+    }
+
+    /**
+     * A snapshot of the progress of a {@link DriverMigration}.
+     */
+    @Getter
+    @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+    public static final class Progress {
+        /** The number of entries migrated by this run */
+        private final long migrated;
+
+        /** The time elapsed since this run started, in milliseconds */
+        private final long elapsedMillis;
+
+        /** The serialized key the migration would resume after */
+        private final @Nullable String checkpoint;
+
+        /** Whether every entry was migrated */
+        private final boolean complete;
+
+        /** Whether a batch failed to persist */
+        private final boolean failed;
+
+        /**
+         * Gets the throughput of this run.
+         *
+         * @return The number of entries migrated per second
+         */
+        public double getEntriesPerSecond() {
+            return this.elapsedMillis == 0L ? 0.0 : this.migrated * 1000.0 / this.elapsedMillis;
+        }
+    }
+
+    /**
+     * Used to construct a new {@link DriverMigration}.
+     */
+    public static final class Builder<D> {
+        private AlpineDriver<?, D> source;
+        private AlpineDriver<?, D> target;
+        private int batchSize = 500;
+        private int parallelism = 4;
+        private File checkpointFile;
+        private Consumer<Progress> progressConsumer;
+
+        @Contract("_ -> this")
+        public @NotNull Builder<D> source(@NotNull AlpineDriver<?, D> source) {
+            this.source = source;
+            return this;
+        }
+
+        @Contract("_ -> this")
+        public @NotNull Builder<D> target(@NotNull AlpineDriver<?, D> target) {
+            this.target = target;
+            return this;
+        }
+
+        @Contract("_ -> this")
+        public @NotNull Builder<D> batchSize(int batchSize) {
+            Validate.isTrue(batchSize > 0, "Batch size must be positive");
+            this.batchSize = batchSize;
+            return this;
+        }
+
+        @Contract("_ -> this")
+        public @NotNull Builder<D> parallelism(int parallelism) {
+            Validate.isTrue(parallelism > 0, "Parallelism must be positive");
+            this.parallelism = parallelism;
+            return this;
+        }
+
+        @Contract("_ -> this")
+        public @NotNull Builder<D> checkpointFile(@Nullable File checkpointFile) {
+            this.checkpointFile = checkpointFile;
+            return this;
+        }
+
+        @Contract("_ -> this")
+        public @NotNull Builder<D> progress(@Nullable Consumer<Progress> progressConsumer) {
+            this.progressConsumer = progressConsumer;
+            return this;
+        }
+
+        public @NotNull DriverMigration<D> build() {
+            Validate.notNull(this.source, "Source must not be null");
+            Validate.notNull(this.target, "Target must not be null");
+            Validate.isTrue(this.source != this.target, "Source and target must differ");
+            return new DriverMigration<>(this.source, this.target, this.batchSize, this.parallelism,
+                    this.checkpointFile, this.progressConsumer);
+        }
+    }
+}
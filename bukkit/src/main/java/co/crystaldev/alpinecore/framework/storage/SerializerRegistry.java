@@ -13,6 +13,8 @@
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -60,4 +62,85 @@ public void putConfigSerializer(@NotNull Class<?> dataType, @NotNull Serializer<
     public @Nullable KeySerializer<?, ?> getKeySerializer(@NotNull Class<?> dataType) {
         return this.keySerializers.get(dataType);
     }
+
+    /**
+     * Serializes a key into the string form used by storage drivers.
+     *
+     * @param key The key to serialize.
+     * @return The serialized key.
+     * @throws NullPointerException If no key serializer is registered for the key.
+     * @since 0.4.10
+     */
+    @SuppressWarnings("unchecked")
+    public @NotNull String serializeKey(@NotNull Object key) {
+        KeySerializer<Object, ?> serializer = (KeySerializer<Object, ?>) this.findKeySerializer(key.getClass());
+        return String.valueOf(serializer.serialize(key));
+    }
+
+    /**
+     * Deserializes a key from the string form used by storage drivers.
+     *
+     * @param keyType       The type of the key.
+     * @param serializedKey The serialized key.
+     * @return The deserialized key.
+     * @throws NullPointerException If no key serializer is registered for the key type.
+     * @since 0.4.10
+     */
+    @SuppressWarnings("unchecked")
+    public <K> @NotNull K deserializeKey(@NotNull Class<K> keyType, @NotNull String serializedKey) {
+        KeySerializer<K, Object> serializer = (KeySerializer<K, Object>) this.findKeySerializer(keyType);
+
+        Class<?> simpleType = getSerializedType(serializer);
+        Object simpleKey;
+        if (simpleType == Long.class) {
+            simpleKey = Long.valueOf(serializedKey);
+        }
+        else if (simpleType == Integer.class) {
+            simpleKey = Integer.valueOf(serializedKey);
+        }
+        else {
+            simpleKey = serializedKey;
+        }
+        return serializer.deserialize(simpleKey);
+    }
+
+    /**
+     * Retrieves the simple type that keys of the given type are serialized to.
+     *
+     * @param keyType The type of the key.
+     * @return The serialized type of the key.
+     * @throws NullPointerException If no key serializer is registered for the key type.
+     * @since 0.4.10
+     */
+    public @NotNull Class<?> getSerializedKeyType(@NotNull Class<?> keyType) {
+        return getSerializedType(this.findKeySerializer(keyType));
+    }
+
+    private @NotNull KeySerializer<?, ?> findKeySerializer(@NotNull Class<?> keyType) {
+        KeySerializer<?, ?> serializer = null;
+        for (Map.Entry<Class<?>, KeySerializer<?, ?>> entry : this.keySerializers.entrySet()) {
+            if (entry.getKey().isAssignableFrom(keyType)) {
+                serializer = entry.getValue();
+            }
+        }
+
+        if (serializer == null) {
+            throw new NullPointerException(String.format("No key serializer registered for type \"%s\"", keyType.getName()));
+        }
+        return serializer;
+    }
+
+    private static @NotNull Class<?> getSerializedType(@NotNull KeySerializer<?, ?> serializer) {
+        for (Class<?> clazz = serializer.getClass(); clazz != null; clazz = clazz.getSuperclass()) {
+            for (Type type : clazz.getGenericInterfaces()) {
+                if (type instanceof ParameterizedType && ((ParameterizedType) type).getRawType() == KeySerializer.class) {
+                    Type simpleType = ((ParameterizedType) type).getActualTypeArguments()[1];
+                    if (simpleType instanceof Class) {
+                        return (Class<?>) simpleType;
+                    }
+                }
+            }
+        }
+        return String.class;
+    }
 }
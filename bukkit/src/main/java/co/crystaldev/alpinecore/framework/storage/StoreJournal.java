@@ -0,0 +1,586 @@
+/*
+ * This file is part of AlpineCore - https://github.com/alpine-network/alpine-core
+ * Copyright (C) 2025 Crystal Development, LLC
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+package co.crystaldev.alpinecore.framework.storage;
+
+import co.crystaldev.alpinecore.AlpinePlugin;
+import co.crystaldev.alpinecore.Reference;
+import com.google.gson.Gson;
+import org.apache.commons.lang.Validate;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.zip.CRC32;
+
+/**
+ * A local write-ahead journal for the write cache of an {@link AlpineStore}.
+ * <p>
+ * Every {@link AlpineStore#put(Object, Object)} and {@link AlpineStore#remove(Object)}
+ * is appended to a memory-mapped file so that entries which have not yet been
+ * flushed to the {@link co.crystaldev.alpinecore.framework.storage.driver.AlpineDriver}
+ * survive a crash. The journal is truncated after every successful flush and
+ * replayed into the store when it is activated.
+ * <p>
+ * Records are only accepted while the journal is open. Appending to a journal
+ * which failed to open, or which has been closed, does nothing.
+ * <p>
+ * Records are serialized on the calling thread and handed to a dedicated writer
+ * thread, which drains every pending record into the mapped file and syncs it
+ * to disk once per batch.
+ * <p>
+ * If a record cannot be written, it and every record appended after it are
+ * dropped until a flush has persisted them, so that a record is never replayed
+ * without the records before it.
+ *
+ * @param <K> the key type
+ * @param <D> the data type
+ *
+ * @see AlpineStore
+ * @since 0.4.10
+ */
+@ApiStatus.Experimental
+public final class StoreJournal<K, D> {
+
+    private static final int MAGIC = 0x414A524E; // "AJRN"
+    private static final int HEADER_SIZE = Integer.BYTES * 2 + Long.BYTES;
+    private static final int STATE_OFFSET = Integer.BYTES * 2;
+    private static final int RECORD_HEADER_SIZE = Integer.BYTES + Integer.BYTES;
+
+    private static final byte OP_PUT = 1;
+    private static final byte OP_REMOVE = 2;
+
+    private static final Object CLOSE = new Object();
+
+    /** The plugin that owns this journal */
+    private final AlpinePlugin plugin;
+
+    /** The file backing this journal */
+    private final File file;
+
+    /** The Gson instance responsible for serializing keys and data */
+    private final Gson gson;
+
+    private final Class<K> keyType;
+    private final Class<D> dataType;
+    private final int initialSize;
+
+    /** Pending {@link Record}s, {@link Truncate} markers and the {@link #CLOSE} marker */
+    private final BlockingQueue<Object> queue = new LinkedBlockingQueue<>();
+
+    /** The sequence number of the most recently appended record */
+    private final AtomicLong sequence = new AtomicLong();
+
+    /** Records written since the last truncation, owned by the writer thread */
+    private final List<Record> written = new ArrayList<>();
+
+    private FileChannel channel;
+    private MappedByteBuffer buffer;
+
+    /** Bumped on every truncation, records from older generations are ignored */
+    private int generation;
+
+    /** The offset of the first record of the current generation */
+    private int start;
+
+    /**
+     * The sequence of the latest record dropped after a write failed, or -1 if
+     * the journal is intact. Owned by the writer thread.
+     */
+    private long dropped = -1L;
+
+    private volatile Thread writer;
+
+    private StoreJournal(@NotNull AlpinePlugin plugin, @NotNull File file, @NotNull Gson gson,
+                         @NotNull Class<K> keyType, @NotNull Class<D> dataType, int initialSize) {
+        this.plugin = plugin;
+        this.file = file;
+        this.gson = gson;
+        this.keyType = keyType;
+        this.dataType = dataType;
+        this.initialSize = initialSize;
+    }
+
+    /**
+     * Opens the journal and replays every record written since
+     * the last truncation, in the order they were appended.
+     *
+     * @param putConsumer    receives replayed puts
+     * @param removeConsumer receives replayed removals
+     * @return the number of replayed records
+     * @throws IOException if the journal file could not be opened
+     */
+    public int open(@NotNull BiConsumer<K, D> putConsumer, @NotNull Consumer<K> removeConsumer) throws IOException {
+        Validate.isTrue(this.writer == null, "Journal is already open");
+
+        File parent = this.file.getParentFile();
+        if (parent != null && !parent.exists()) {
+            parent.mkdirs();
+        }
+
+        this.channel = FileChannel.open(this.file.toPath(), StandardOpenOption.CREATE,
+                StandardOpenOption.READ, StandardOpenOption.WRITE);
+        this.buffer = this.channel.map(FileChannel.MapMode.READ_WRITE, 0, Math.max(this.channel.size(), this.initialSize));
+
+        int replayed = 0;
+        long state = this.buffer.getLong(STATE_OFFSET);
+        int start = (int) (state >>> 32);
+        if (this.buffer.getInt(0) == MAGIC && start >= HEADER_SIZE && start <= this.buffer.capacity() - Integer.BYTES) {
+            this.generation = (int) state;
+            this.start = start;
+            replayed = this.replay(putConsumer, removeConsumer);
+        }
+        else {
+            this.buffer.putInt(0, MAGIC);
+            this.buffer.putInt(HEADER_SIZE, 0);
+            this.switchGeneration(0, HEADER_SIZE);
+            this.buffer.position(HEADER_SIZE);
+        }
+
+        this.writer = new Thread(this::run, "AlpineCore Journal - " + this.file.getName());
+        this.writer.setDaemon(true);
+        this.writer.start();
+        return replayed;
+    }
+
+    /**
+     * Checks whether the journal is open and accepting records.
+     *
+     * @return whether the journal is open
+     */
+    public boolean isOpen() {
+        return this.writer != null;
+    }
+
+    /**
+     * Appends a put to the journal.
+     *
+     * @param key  the key
+     * @param data the data
+     */
+    public void appendPut(@NotNull K key, @NotNull D data) {
+        if (this.writer == null) {
+            return;
+        }
+
+        byte[] keyBytes = this.gson.toJson(key, this.keyType).getBytes(StandardCharsets.UTF_8);
+        byte[] dataBytes = this.gson.toJson(data, this.dataType).getBytes(StandardCharsets.UTF_8);
+        this.append(encode(OP_PUT, keyBytes, dataBytes));
+    }
+
+    /**
+     * Appends a removal to the journal.
+     *
+     * @param key the key
+     */
+    public void appendRemove(@NotNull K key) {
+        if (this.writer == null) {
+            return;
+        }
+
+        byte[] keyBytes = this.gson.toJson(key, this.keyType).getBytes(StandardCharsets.UTF_8);
+        this.append(encode(OP_REMOVE, keyBytes, null));
+    }
+
+    /**
+     * Marks the most recently appended record.
+     * <p>
+     * The mark should be taken before the entries are persisted, and then
+     * passed to {@link #truncate(long)} once they have been persisted.
+     *
+     * @return the mark
+     */
+    public long mark() {
+        return this.sequence.get();
+    }
+
+    /**
+     * Discards every record appended up to and including the given mark.
+     * Records appended after the mark was taken are kept.
+     * <p>
+     * Should only be called once the entries have been
+     * persisted to the underlying data storage.
+     *
+     * @param mark the mark taken before the entries were persisted
+     * @see #mark()
+     */
+    public void truncate(long mark) {
+        if (this.writer == null) {
+            return;
+        }
+        this.queue.add(new Truncate(mark));
+    }
+
+    private synchronized void append(byte[] payload) {
+        // sequenced under a lock so that records are queued in the order of their sequence
+        this.queue.add(new Record(this.sequence.incrementAndGet(), payload));
+    }
+
+    /**
+     * Writes any pending records and closes the journal.
+     */
+    public void close() {
+        if (this.writer == null) {
+            return;
+        }
+
+        this.queue.add(CLOSE);
+        try {
+            this.writer.join();
+        }
+        catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+        this.writer = null;
+        this.queue.clear();
+        this.written.clear();
+
+        try {
+            this.channel.close();
+        }
+        catch (IOException ex) {
+            this.plugin.log(String.format("&cUnable to close journal &d%s", this.file.getName()), ex);
+        }
+        this.buffer = null;
+    }
+
+    private void run() {
+        List<Object> batch = new ArrayList<>();
+        boolean running = true;
+        while (running) {
+            try {
+                batch.add(this.queue.take());
+            }
+            catch (InterruptedException ex) {
+                batch.add(CLOSE);
+            }
+            this.queue.drainTo(batch);
+
+            for (Object op : batch) {
+                if (op == CLOSE) {
+                    running = false;
+                }
+                else if (op instanceof Truncate) {
+                    this.apply((Truncate) op);
+                }
+                else {
+                    this.apply((Record) op);
+                }
+            }
+            batch.clear();
+
+            // group commit
+            try {
+                this.buffer.force();
+            }
+            catch (Exception ex) {
+                this.plugin.log(String.format("&cUnable to sync journal &d%s", this.file.getName()), ex);
+            }
+        }
+    }
+
+    private void apply(@NotNull Record record) {
+        if (this.dropped != -1L) {
+            // a later record must not be replayed without the records before it
+            this.dropped = record.sequence;
+            return;
+        }
+
+        int position = this.buffer.position();
+        try {
+            this.write(record.payload, this.generation);
+            this.written.add(record);
+        }
+        catch (Exception ex) {
+            this.dropped = record.sequence;
+            this.restore(position);
+            this.plugin.log(String.format("&cUnable to write to journal &d%s&c, records are no longer journaled until the next flush",
+                    this.file.getName()), ex);
+        }
+    }
+
+    private void apply(@NotNull Truncate truncate) {
+        int position = this.buffer.position();
+        try {
+            this.truncate(truncate);
+
+            // every dropped record has been persisted
+            if (this.dropped != -1L && truncate.mark >= this.dropped) {
+                this.dropped = -1L;
+            }
+        }
+        catch (Exception ex) {
+            this.dropped = this.sequence.get();
+            this.restore(position);
+            this.plugin.log(String.format("&cUnable to truncate journal &d%s", this.file.getName()), ex);
+        }
+    }
+
+    /**
+     * Moves back to the end of the last intact record after a failed write,
+     * so that a partially written record is never followed by another.
+     */
+    private void restore(int position) {
+        try {
+            this.buffer.position(position);
+            this.buffer.putInt(position, 0);
+        }
+        catch (Exception ex) {
+            this.plugin.log(String.format("&cUnable to restore journal &d%s", this.file.getName()), ex);
+        }
+    }
+
+    /**
+     * Rewrites the records appended after the mark into a new generation.
+     * <p>
+     * The records are written to a region which does not overlap the current
+     * generation, and the header is only switched to the new generation once
+     * they have been synced, so that the journal replays either generation in
+     * full if the process dies part way through.
+     */
+    private void truncate(@NotNull Truncate truncate) throws IOException {
+        List<Record> retained = new ArrayList<>();
+        long size = Integer.BYTES;
+        for (Record record : this.written) {
+            if (record.sequence > truncate.mark) {
+                retained.add(record);
+                size += RECORD_HEADER_SIZE + record.payload.length;
+            }
+        }
+
+        // reuse the space before the current generation if the records fit
+        int start = HEADER_SIZE + size <= this.start ? HEADER_SIZE : this.buffer.position();
+        int generation = this.generation + 1;
+        this.buffer.position(start);
+        this.buffer.putInt(start, 0);
+        for (Record record : retained) {
+            this.write(record.payload, generation);
+        }
+
+        this.buffer.force();
+        this.switchGeneration(generation, start);
+        this.written.clear();
+        this.written.addAll(retained);
+    }
+
+    private void write(byte[] payload, int generation) throws IOException {
+        int required = RECORD_HEADER_SIZE + payload.length + Integer.BYTES;
+        if (this.buffer.remaining() < required) {
+            int position = this.buffer.position();
+            long size = Math.max((long) this.buffer.capacity() * 2, (long) position + required);
+            Validate.isTrue(size <= Integer.MAX_VALUE, "Journal exceeds the maximum mappable size");
+
+            this.buffer.force();
+            this.buffer = this.channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+            this.buffer.position(position);
+        }
+
+        this.buffer.putInt(payload.length);
+        this.buffer.putInt(checksum(generation, payload, 0, payload.length));
+        this.buffer.put(payload);
+
+        // end of journal marker, overwritten by the next record
+        this.buffer.putInt(this.buffer.position(), 0);
+    }
+
+    private int replay(@NotNull BiConsumer<K, D> putConsumer, @NotNull Consumer<K> removeConsumer) {
+        int position = this.start;
+        int replayed = 0;
+
+        while (position + RECORD_HEADER_SIZE <= this.buffer.capacity()) {
+            int length = this.buffer.getInt(position);
+            if (length <= 0 || position + RECORD_HEADER_SIZE + length > this.buffer.capacity()) {
+                break;
+            }
+
+            byte[] payload = new byte[length];
+            this.buffer.position(position + RECORD_HEADER_SIZE);
+            this.buffer.get(payload);
+
+            // torn write or a record from before the last truncation
+            if (this.buffer.getInt(position + Integer.BYTES) != checksum(this.generation, payload, 0, length)) {
+                break;
+            }
+
+            try {
+                this.decode(payload, putConsumer, removeConsumer);
+                replayed++;
+            }
+            catch (Exception ex) {
+                this.plugin.log(String.format("&cUnable to replay journal record in &d%s", this.file.getName()), ex);
+            }
+            position += RECORD_HEADER_SIZE + length;
+        }
+
+        this.buffer.position(position);
+        return replayed;
+    }
+
+    private void decode(byte[] payload, @NotNull BiConsumer<K, D> putConsumer, @NotNull Consumer<K> removeConsumer) {
+        byte op = payload[0];
+        int keyLength = readInt(payload, 1);
+        K key = this.gson.fromJson(new String(payload, 5, keyLength, StandardCharsets.UTF_8), this.keyType);
+
+        if (op == OP_PUT) {
+            int offset = 5 + keyLength;
+            int dataLength = readInt(payload, offset);
+            D data = this.gson.fromJson(new String(payload, offset + 4, dataLength, StandardCharsets.UTF_8), this.dataType);
+            putConsumer.accept(key, data);
+        }
+        else if (op == OP_REMOVE) {
+            removeConsumer.accept(key);
+        }
+        else {
+            throw new IllegalStateException("Unknown journal operation " + op);
+        }
+    }
+
+    /**
+     * Points the header at the given generation. The generation and the offset
+     * of its first record share a single aligned write, so that neither is
+     * ever persisted without the other.
+     */
+    private void switchGeneration(int generation, int start) {
+        this.buffer.putLong(STATE_OFFSET, ((long) start << 32) | (generation & 0xFFFFFFFFL));
+        this.generation = generation;
+        this.start = start;
+    }
+
+    private static int checksum(int generation, byte[] payload, int offset, int length) {
+        CRC32 crc = new CRC32();
+        for (int i = 0; i < Integer.BYTES; i++) {
+            crc.update(generation >>> (i * 8));
+        }
+        crc.update(payload, offset, length);
+        return (int) crc.getValue();
+    }
+
+    private static byte[] encode(byte op, byte[] key, @Nullable byte[] data) {
+        int length = 1 + 4 + key.length + (data == null ? 0 : 4 + data.length);
+        byte[] payload = new byte[length];
+        payload[0] = op;
+        writeInt(payload, 1, key.length);
+        System.arraycopy(key, 0, payload, 5, key.length);
+        if (data != null) {
+            writeInt(payload, 5 + key.length, data.length);
+            System.arraycopy(data, 0, payload, 9 + key.length, data.length);
+        }
+        return payload;
+    }
+
+    private static void writeInt(byte[] bytes, int offset, int value) {
+        bytes[offset] = (byte) (value >>> 24);
+        bytes[offset + 1] = (byte) (value >>> 16);
+        bytes[offset + 2] = (byte) (value >>> 8);
+        bytes[offset + 3] = (byte) value;
+    }
+
+    private static int readInt(byte[] bytes, int offset) {
+        return ((bytes[offset] & 0xFF) << 24)
+                | ((bytes[offset + 1] & 0xFF) << 16)
+                | ((bytes[offset + 2] & 0xFF) << 8)
+                | (bytes[offset + 3] & 0xFF);
+    }
+
+    private static final class Record {
+
+        private final long sequence;
+
+        private final byte[] payload;
+
+        Record(long sequence, byte[] payload) {
+            this.sequence = sequence;
+            this.payload = payload;
+        }
+    }
+
+    private static final class Truncate {
+
+        private final long mark;
+
+        Truncate(long mark) {
+            this.mark = mark;
+        }
+    }
+
+    /**
+     * Helper method to return a new builder instance.
+     *
+     * @see Builder
+     * @return New builder for this class
+     */
+    public static <K, D> @NotNull Builder<K, D> builder() {
+        return new Builder<>();
+    }
+
+    /**
+     * Used to construct a new {@link StoreJournal}.
+     *
+     * @see AlpineStore
+     */
+    public static final class Builder<K, D> {
+        private File file;
+        private Gson gson;
+        private Class<K> keyType;
+        private Class<D> dataType;
+        private int initialSize = 1 << 20; // 1 MiB
+
+        @Contract("_ -> this")
+        public @NotNull Builder<K, D> file(@NotNull File file) {
+            this.file = file;
+            return this;
+        }
+
+        @Contract("_ -> this")
+        public @NotNull Builder<K, D> gson(@NotNull Gson gson) {
+            this.gson = gson;
+            return this;
+        }
+
+        @Contract("_ -> this")
+        public @NotNull Builder<K, D> keyType(@NotNull Class<K> keyType) {
+            this.keyType = keyType;
+            return this;
+        }
+
+        @Contract("_ -> this")
+        public @NotNull Builder<K, D> dataType(@NotNull Class<D> dataType) {
+            this.dataType = dataType;
+            return this;
+        }
+
+        @Contract("_ -> this")
+        public @NotNull Builder<K, D> initialSize(int initialSize) {
+            Validate.isTrue(initialSize >= HEADER_SIZE + Integer.BYTES, "Initial size is too small");
+            this.initialSize = initialSize;
+            return this;
+        }
+
+        public @NotNull StoreJournal<K, D> build(@NotNull AlpinePlugin plugin) {
+            Validate.notNull(this.file, "File must not be null");
+            Validate.notNull(this.keyType, "Key type must not be null");
+            Validate.notNull(this.dataType, "Data type must not be null");
+            Gson gson = this.gson == null ? Reference.GSON : this.gson;
+            return new StoreJournal<>(plugin, this.file, gson, this.keyType, this.dataType, this.initialSize);
+        }
+    }
+}
@@ -13,8 +13,10 @@
 import org.jetbrains.annotations.Nullable;
 
 import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 import java.util.function.Consumer;
+import java.util.function.Predicate;
 
 /**
  * Responsible for saving key-data pairs to a
@@ -128,6 +130,104 @@ public boolean persistEntries(@NotNull Map<K, D> entries) {
      */
     public abstract @NotNull Collection<D> getAllEntries(@Nullable Consumer<Exception> exceptionHandler);
 
+    /**
+     * Stream stored entries in ascending order of their serialized key.
+     * <p>
+     * Entries are retrieved in batches of at most {@code batchSize} entries, so
+     * only a single batch is held in memory at a time. Each batch maps the
+     * serialized key to its data and is handed to the consumer before the next
+     * one is retrieved.
+     * <p>
+     * Any exceptions generated by this method are NOT swallowed.
+     *
+     * @param after          The exclusive lower bound of serialized keys, or null to start from the first entry
+     * @param batchSize      The maximum number of entries per batch
+     * @param batchConsumer  Receives each batch, returning false stops the stream
+     * @throws Exception If an exception occurs while retrieving the entries.
+     * @throws UnsupportedOperationException If the driver does not support streaming.
+     * @since 0.4.10
+     */
+    public void streamEntries(@Nullable String after, int batchSize, @NotNull Predicate<Map<String, D>> batchConsumer) throws Exception {
+        throw new UnsupportedOperationException(String.format("%s does not support streaming entries", this.getClass().getSimpleName()));
+    }
+
+    /**
+     * Save multiple data entries under their already serialized keys.
+     * <p>
+     * This is the counterpart to {@link #streamEntries(String, int, Predicate)}
+     * and allows entries to be moved between drivers without knowledge of the
+     * original key type.
+     *
+     * @param entries A map containing serialized keys and their data.
+     * @return Whether the operation was successful
+     * @throws UnsupportedOperationException If the driver does not support serialized keys.
+     * @since 0.4.10
+     */
+    public boolean persistSerializedEntries(@NotNull Map<String, D> entries) {
+        throw new UnsupportedOperationException(String.format("%s does not support serialized keys", this.getClass().getSimpleName()));
+    }
+
+    /**
+     * Count the stored entries.
+     * <p>
+     * Any exceptions generated by this method are NOT swallowed.
+     *
+     * @return The number of stored entries
+     * @throws Exception If an exception occurs while counting the entries.
+     * @throws UnsupportedOperationException If the driver does not support counting.
+     * @since 0.4.10
+     */
+    public long countEntries() throws Exception {
+        throw new UnsupportedOperationException(String.format("%s does not support counting entries", this.getClass().getSimpleName()));
+    }
+
+    /**
+     * Retrieve a page of serialized keys in ascending order.
+     * <p>
+     * Serialized keys are ordered lexicographically by character, so numeric
+     * keys are not ordered numerically and {@code "10"} comes before {@code "9"}.
+     * Keys containing characters outside the Basic Multilingual Plane may be
+     * ordered differently between drivers, as may keys in database tables
+     * created by earlier versions, which keep the collation of the database.
+     * <p>
+     * Any exceptions generated by this method are NOT swallowed.
+     *
+     * @param offset The number of keys to skip
+     * @param limit  The maximum number of keys to retrieve
+     * @return The serialized keys
+     * @throws Exception If an exception occurs while retrieving the keys.
+     * @throws UnsupportedOperationException If the driver does not support key queries.
+     * @since 0.4.10
+     */
+    public @NotNull List<String> getKeys(int offset, int limit) throws Exception {
+        throw new UnsupportedOperationException(String.format("%s does not support key queries", this.getClass().getSimpleName()));
+    }
+
+    /**
+     * Retrieve a page of entries whose serialized keys fall within
+     * a range, in ascending order of their serialized key.
+     * <p>
+     * Keys are ordered lexicographically by character, so numeric
+     * keys are not ordered numerically and {@code "10"} comes before {@code "9"}.
+     * Keys containing characters outside the Basic Multilingual Plane may be
+     * ordered differently between drivers, as may keys in database tables
+     * created by earlier versions, which keep the collation of the database.
+     * <p>
+     * Any exceptions generated by this method are NOT swallowed.
+     *
+     * @param from   The inclusive lower bound of serialized keys, or null for no lower bound
+     * @param to     The exclusive upper bound of serialized keys, or null for no upper bound
+     * @param offset The number of entries within the range to skip
+     * @param limit  The maximum number of entries to retrieve
+     * @return An ordered map of serialized keys and their data
+     * @throws Exception If an exception occurs while retrieving the entries.
+     * @throws UnsupportedOperationException If the driver does not support range queries.
+     * @since 0.4.10
+     */
+    public @NotNull Map<String, D> getEntries(@Nullable String from, @Nullable String to, int offset, int limit) throws Exception {
+        throw new UnsupportedOperationException(String.format("%s does not support range queries", this.getClass().getSimpleName()));
+    }
+
     /**
      * Shut down the data storage system.
      * <p>
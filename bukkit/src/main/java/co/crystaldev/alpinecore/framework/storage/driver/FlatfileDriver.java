@@ -23,6 +23,7 @@
 import java.io.*;
 import java.util.*;
 import java.util.function.Consumer;
+import java.util.function.Predicate;
 
 /**
  * Implements a simple flatfile storage system where
@@ -34,6 +35,9 @@
  */
 @SuppressWarnings("unchecked")
 public final class FlatfileDriver<K, D> extends AlpineDriver<K, D> {
+    /** The file extension of entry files */
+    private static final String EXTENSION = ".json";
+
     /** The directory the JSON files are stored in */
     private final File directory;
 
@@ -48,28 +52,30 @@
      */
     private final Class<D> dataType;
 
+    /** The compression applied to large values */
+    private final ValueCompression compression;
+
+    /** The sorted serialized keys, or null if an entry was created or deleted since it was built */
+    private volatile String[] keyIndex;
+
     /**
      * Locked down to ensure valid instantiation.
      *
      * @see Builder
      */
-    private FlatfileDriver(@NotNull AlpinePlugin plugin, @NotNull File directory, @NotNull Gson gson, @NotNull Class<D> dataType) {
+    private FlatfileDriver(@NotNull AlpinePlugin plugin, @NotNull File directory, @NotNull Gson gson, @NotNull Class<D> dataType,
+                           @NotNull ValueCompression compression) {
         super(plugin);
         this.directory = directory;
         this.gson = gson;
         this.dataType = dataType;
+        this.compression = compression;
     }
 
     @Override
     public boolean persistEntry(@NotNull K key, @NotNull D data) {
         try {
-            File file = this.getFileForKey(key);
-            if (!file.exists() && !file.createNewFile())
-                throw new IOException("Failed to create store file for " + key);
-
-            FileWriter writer = new FileWriter(file);
-            this.gson.toJson(data, writer);
-            writer.close();
+            this.write(this.getFileForKey(key), data);
             return true;
         }
         catch (Exception ex) {
@@ -78,10 +84,26 @@ public boolean persistEntry(@NotNull K key, @NotNull D data) {
         return false;
     }
 
+    @Override
+    public boolean persistSerializedEntries(@NotNull Map<String, D> entries) {
+        boolean success = true;
+        for (Map.Entry<String, D> entry : entries.entrySet()) {
+            try {
+                this.write(new File(this.directory, entry.getKey() + EXTENSION), entry.getValue());
+            }
+            catch (Exception ex) {
+                ex.printStackTrace();
+                success = false;
+            }
+        }
+        return success;
+    }
+
     @Override
     public boolean deleteEntry(@NotNull K key) {
         try {
             File file = this.getFileForKey(key);
+            this.keyIndex = null;
             return file.delete();
         }
         catch (Exception ex) {
@@ -104,9 +126,7 @@ public boolean hasEntry(@NotNull K key) {
 
     @Override
     public @NotNull D retrieveEntry(@NotNull K key) throws Exception {
-        File file = this.getFileForKey(key);
-        BufferedReader reader = new BufferedReader(new FileReader(file));
-        return this.gson.fromJson(reader, this.dataType);
+        return this.read(this.getFileForKey(key));
     }
 
     @Override
@@ -119,8 +139,7 @@ public boolean hasEntry(@NotNull K key) {
         // discover and deserialize values
         List<D> values = new ArrayList<>();
         for (File file : files) {
-            BufferedReader reader = new BufferedReader(new FileReader(file));
-            values.add(this.gson.fromJson(reader, this.dataType));
+            values.add(this.read(file));
         }
 
         // value should be immutable
@@ -138,8 +157,7 @@ public boolean hasEntry(@NotNull K key) {
         List<D> values = new ArrayList<>();
         for (File file : files) {
             try {
-                BufferedReader reader = new BufferedReader(new FileReader(file));
-                values.add(this.gson.fromJson(reader, this.dataType));
+                values.add(this.read(file));
             }
             catch (IOException ex) {
                 if (exceptionConsumer != null) {
@@ -152,6 +170,109 @@ public boolean hasEntry(@NotNull K key) {
         return ImmutableList.copyOf(values);
     }
 
+    @Override
+    public void streamEntries(@Nullable String after, int batchSize, @NotNull Predicate<Map<String, D>> batchConsumer) throws Exception {
+        String[] keys = this.getKeyIndex();
+        int start = after == null ? 0 : searchKey(keys, after, false);
+
+        // only the names are held in memory, values are read per batch
+        for (int i = start; i < keys.length; i += batchSize) {
+            Map<String, D> batch = new LinkedHashMap<>();
+            for (int j = i; j < Math.min(i + batchSize, keys.length); j++) {
+                batch.put(keys[j], this.read(new File(this.directory, keys[j] + EXTENSION)));
+            }
+
+            if (!batchConsumer.test(batch)) {
+                return;
+            }
+        }
+    }
+
+    @Override
+    public long countEntries() {
+        return this.getKeyIndex().length;
+    }
+
+    @Override
+    public @NotNull List<String> getKeys(int offset, int limit) {
+        String[] keys = this.getKeyIndex();
+        int start = Math.min(offset, keys.length);
+        int end = (int) Math.min((long) start + limit, keys.length);
+        return Collections.unmodifiableList(Arrays.asList(keys).subList(start, end));
+    }
+
+    @Override
+    public @NotNull Map<String, D> getEntries(@Nullable String from, @Nullable String to, int offset, int limit) throws Exception {
+        String[] keys = this.getKeyIndex();
+        int start = from == null ? 0 : searchKey(keys, from, true);
+        int end = to == null ? keys.length : searchKey(keys, to, true);
+
+        // only the requested page is read from disk
+        Map<String, D> entries = new LinkedHashMap<>();
+        for (int i = (int) Math.min((long) start + offset, end); i < end && entries.size() < limit; i++) {
+            File file = new File(this.directory, keys[i] + EXTENSION);
+            if (file.exists()) {
+                entries.put(keys[i], this.read(file));
+            }
+        }
+        return entries;
+    }
+
+    /**
+     * Gets the sorted serialized keys of every entry.
+     * <p>
+     * Only file names are listed, and the index is reused
+     * until an entry is created or deleted.
+     */
+    private @NotNull String[] getKeyIndex() {
+        String[] index = this.keyIndex;
+        if (index != null) {
+            return index;
+        }
+
+        String[] fileNames = this.directory.list((dir, name) -> name.endsWith(EXTENSION));
+        if (fileNames == null) {
+            fileNames = new String[0];
+        }
+        for (int i = 0; i < fileNames.length; i++) {
+            fileNames[i] = fileNames[i].substring(0, fileNames[i].length() - EXTENSION.length());
+        }
+        Arrays.sort(fileNames);
+
+        this.keyIndex = fileNames;
+        return fileNames;
+    }
+
+    /**
+     * Finds the position of the first key greater than, or if
+     * inclusive equal to, the given key.
+     */
+    private static int searchKey(@NotNull String[] keys, @NotNull String key, boolean inclusive) {
+        int index = Arrays.binarySearch(keys, key);
+        if (index < 0) {
+            return -index - 1;
+        }
+        return inclusive ? index : index + 1;
+    }
+
+    private @NotNull D read(@NotNull File file) throws IOException {
+        try (Reader reader = ValueCompression.reader(new FileInputStream(file))) {
+            return this.gson.fromJson(reader, this.dataType);
+        }
+    }
+
+    private void write(@NotNull File file, @NotNull D data) throws IOException {
+        if (!file.exists()) {
+            if (!file.createNewFile())
+                throw new IOException("Failed to create store file " + file.getName());
+            this.keyIndex = null;
+        }
+
+        try (OutputStream out = new FileOutputStream(file)) {
+            out.write(this.compression.encode(this.gson.toJson(data)));
+        }
+    }
+
     private @NotNull File getFileForKey(K key) {
         SerializerRegistry registry = this.plugin.getSerializerRegistry();
         KeySerializer<K, ?> serializer = null;
@@ -166,7 +287,7 @@ public boolean hasEntry(@NotNull K key) {
         }
 
         Object serializedKey = serializer.serialize(key);
-        String fileName = serializedKey.toString() + ".json";
+        String fileName = serializedKey.toString() + EXTENSION;
         return new File(this.directory, fileName);
     }
 
@@ -189,6 +310,7 @@ public boolean hasEntry(@NotNull K key) {
         private File directory;
         private Gson gson = Reference.GSON_PRETTY;
         private Class<D> dataType;
+        private ValueCompression compression = ValueCompression.NONE;
 
         @Contract("_ -> this")
         public @NotNull Builder<K, D> directory(@NotNull File directory) {
@@ -212,10 +334,22 @@ public boolean hasEntry(@NotNull K key) {
             return this;
         }
 
+        /**
+         * Compresses values whose serialized size reaches the
+         * threshold of the given compression.
+         *
+         * @since 0.4.10
+         */
+        @Contract("_ -> this")
+        public @NotNull Builder<K, D> compression(@NotNull ValueCompression compression) {
+            this.compression = compression;
+            return this;
+        }
+
         public @NotNull FlatfileDriver<K, D> build(@NotNull AlpinePlugin plugin) {
             Validate.notNull(this.directory, "Directory must not be null");
             Validate.notNull(this.dataType, "Data type must not be null");
-            return new FlatfileDriver<>(plugin, this.directory, this.gson, this.dataType);
+            return new FlatfileDriver<>(plugin, this.directory, this.gson, this.dataType, this.compression);
         }
 
         @Deprecated
@@ -0,0 +1,759 @@
+/*
+ * This file is part of AlpineCore - https://github.com/alpine-network/alpine-core
+ * Copyright (C) 2025 Crystal Development, LLC
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+package co.crystaldev.alpinecore.framework.storage.driver;
+
+import co.crystaldev.alpinecore.AlpineCore;
+import co.crystaldev.alpinecore.AlpinePlugin;
+import co.crystaldev.alpinecore.Reference;
+import co.crystaldev.alpinecore.framework.storage.KeySerializer;
+import co.crystaldev.alpinecore.framework.storage.SerializerRegistry;
+import co.crystaldev.alpinecore.util.DatabaseConnection;
+import com.google.common.collect.ImmutableList;
+import com.google.gson.Gson;
+import org.apache.commons.lang.Validate;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.sql.*;
+import java.util.*;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * Stores each key and its serialized data as a row in a
+ * table of a JDBC database.
+ * <p>
+ * Statements which differ between databases are provided by
+ * a {@link SqlDialect}, allowing the same driver to back onto
+ * MySQL, or an embedded database such as SQLite or H2.
+ *
+ * @see MySqlDriver
+ * @see SqliteDriver
+ * @author BestBearr
+ * @since 0.1.2
+ */
+@ApiStatus.Experimental
+public class JdbcDriver<K, D> extends AlpineDriver<K, D> {
+
+    private final SqlDialect dialect;
+    private final Class<D> dataType;
+    private final Gson gson;
+
+    private final DatabaseConnection connection;
+    private final String table;
+
+    /** Whether values are stored in a binary column rather than a JSON column */
+    private final boolean binary;
+    private final ValueCompression compression;
+
+    protected JdbcDriver(@NotNull AlpinePlugin plugin, @NotNull SqlDialect dialect, @NotNull String url, @NotNull String table,
+                         @Nullable String username, @Nullable String password, @NotNull Class<D> dataType, @NotNull Gson gson,
+                         boolean binary, @NotNull ValueCompression compression) {
+        super(plugin);
+        this.dialect = dialect;
+        this.table = table;
+        this.dataType = dataType;
+        this.gson = gson;
+        this.binary = binary;
+        this.compression = compression;
+
+        // Load the JDBC driver if it is not registered automatically
+        String driverClassName = dialect.getDriverClassName();
+        if (driverClassName != null) {
+            try {
+                Class.forName(driverClassName);
+            }
+            catch (ClassNotFoundException ex) {
+                throw new IllegalStateException(String.format("JDBC driver \"%s\" is not available", driverClassName), ex);
+            }
+        }
+
+        // Setup connection
+        this.connection = new DatabaseConnection(url + dialect.getConnectionParameters(), username, password, dialect.getMaxConnections());
+
+        // Establish a connection to the database
+        Connection conn = this.getConnection();
+        if (conn == null) {
+            throw new IllegalStateException("Unable to establish connection to the database");
+        }
+        try {
+            conn.close();
+        }
+        catch (SQLException ignored) {
+            // NO-OP
+        }
+
+        // Ensure the table exists in the database
+        try {
+            if (!this.doesTableExist()) {
+                this.createTable();
+            }
+        }
+        catch (SQLException ex) {
+            throw new IllegalStateException(String.format("Unable to create table \"%s\"", this.table), ex);
+        }
+
+        // Ensure all required columns are present
+        try {
+            if (!this.validateColumns()) {
+                throw new IllegalStateException("Table columns do not match");
+            }
+        }
+        catch (SQLException ex) {
+            throw new IllegalStateException(String.format("Unable to validate columns in table \"%s\"", this.table), ex);
+        }
+    }
+
+    @Override
+    public boolean persistEntry(@NotNull K key, @NotNull D data) {
+        Connection conn = this.getConnection();
+        String sql = this.dialect.upsert(this.table);
+
+        if (conn == null) {
+            throw new IllegalStateException("Database connection is not active");
+        }
+
+        try (PreparedStatement statement = conn.prepareStatement(sql)) {
+            statement.setObject(1, this.serializeKey(key));
+            this.writeValue(statement, 2, data);
+
+            int affectedRows = statement.executeUpdate();
+            return affectedRows > 0;
+        }
+        catch (SQLException ex) {
+            AlpineCore.getInstance().log("Unable to persist entry", ex);
+            return false;
+        }
+        finally {
+            try {
+                conn.close();
+            }
+            catch (SQLException e) {
+                // NO-OP
+            }
+        }
+    }
+
+    @Override
+    public boolean persistEntries(@NotNull Map<K, D> entries) {
+        Map<Object, D> serialized = new LinkedHashMap<>();
+        for (Map.Entry<K, D> entry : entries.entrySet()) {
+            serialized.put(this.serializeKey(entry.getKey()), entry.getValue());
+        }
+        return this.persistBatch(serialized);
+    }
+
+    @Override
+    public boolean persistSerializedEntries(@NotNull Map<String, D> entries) {
+        return this.persistBatch(entries);
+    }
+
+    private boolean persistBatch(@NotNull Map<?, D> entries) {
+        Connection conn = this.getConnection();
+        String sql = this.dialect.upsert(this.table);
+
+        if (conn == null) {
+            throw new IllegalStateException("Database connection is not active");
+        }
+
+        try (PreparedStatement statement = conn.prepareStatement(sql)) {
+            conn.setAutoCommit(false);
+
+            for (Map.Entry<?, D> entry : entries.entrySet()) {
+                statement.setObject(1, entry.getKey());
+                this.writeValue(statement, 2, entry.getValue());
+                statement.addBatch();
+            }
+
+            statement.executeBatch();
+            conn.commit();
+
+            return true;
+        }
+        catch (SQLException ex) {
+            try {
+                conn.rollback();
+            }
+            catch (SQLException ignored) {
+                // NO-OP
+            }
+            ex.printStackTrace();
+            return false;
+        }
+        finally {
+            try {
+                conn.setAutoCommit(true);
+                conn.close();
+            }
+            catch (SQLException ignored) {
+                // NO-OP
+            }
+        }
+    }
+
+    @Override
+    public boolean deleteEntry(@NotNull K key) {
+        Connection conn = this.getConnection();
+        String sql = "DELETE FROM " + this.table + " WHERE data_key = ?";
+
+        if (conn == null) {
+            throw new IllegalStateException("Database connection is not active");
+        }
+
+        try (PreparedStatement statement = conn.prepareStatement(sql)) {
+            statement.setObject(1, this.serializeKey(key));
+
+            int affectedRows = statement.executeUpdate();
+            return affectedRows > 0;
+        }
+        catch (SQLException ex) {
+            AlpineCore.getInstance().log("Unable to delete entry", ex);
+            return false;
+        }
+        finally {
+            try {
+                conn.close();
+            }
+            catch (SQLException e) {
+                // NO-OP
+            }
+        }
+    }
+
+    @Override
+    public boolean hasEntry(@NotNull K key) {
+        Connection conn = this.getConnection();
+        String sql = "SELECT COUNT(*) FROM " + this.table + " WHERE data_key = ?";
+
+        if (conn == null) {
+            throw new IllegalStateException("Database connection is not active");
+        }
+
+        try (PreparedStatement statement = conn.prepareStatement(sql)) {
+            statement.setObject(1, this.serializeKey(key));
+
+            try (ResultSet resultSet = statement.executeQuery()) {
+                if (resultSet.next()) {
+                    return resultSet.getInt(1) > 0;
+                }
+            }
+
+            return false;
+        }
+        catch (SQLException ex) {
+            AlpineCore.getInstance().log("Unable to fetch entry", ex);
+            return false;
+        }
+        finally {
+            try {
+                conn.close();
+            }
+            catch (SQLException e) {
+                // NO-OP
+            }
+        }
+    }
+
+    @Override
+    public @NotNull D retrieveEntry(@NotNull K key) throws Exception {
+        Connection conn = this.getConnection();
+        String sql = "SELECT storage FROM " + this.table + " WHERE data_key = ?";
+
+        if (conn == null) {
+            throw new IllegalStateException("Database connection is not active");
+        }
+
+        try (PreparedStatement statement = conn.prepareStatement(sql)) {
+            statement.setObject(1, this.serializeKey(key));
+
+            try (ResultSet resultSet = statement.executeQuery()) {
+                if (resultSet.next()) {
+                    return this.readValue(resultSet);
+                }
+            }
+        }
+        finally {
+            try {
+                conn.close();
+            }
+            catch (SQLException e) {
+                // NO-OP
+            }
+        }
+
+        throw new NoSuchElementException(String.format("No entry found for key \"%s\"", this.serializeKey(key)));
+    }
+
+    @Override
+    public @NotNull Collection<D> getAllEntries() throws Exception {
+        Connection conn = this.getConnection();
+
+        if (conn == null) {
+            throw new IllegalStateException("Database connection is not active");
+        }
+
+        String sql = "SELECT storage FROM " + this.table;
+        List<D> entries = new ArrayList<>();
+        try (PreparedStatement statement = conn.prepareStatement(sql)) {
+            ResultSet resultSet = statement.executeQuery();
+            while (resultSet.next()) {
+                entries.add(this.readValue(resultSet));
+            }
+        }
+        finally {
+            try {
+                conn.close();
+            }
+            catch (SQLException e) {
+                // NO-OP
+            }
+        }
+
+        return ImmutableList.copyOf(entries);
+    }
+
+    @Override
+    public @NotNull Collection<D> getAllEntries(@Nullable Consumer<Exception> exceptionConsumer) {
+        Connection conn = this.getConnection();
+
+        if (conn == null) {
+            throw new IllegalStateException("Database connection is not active");
+        }
+
+        String sql = "SELECT storage FROM " + this.table;
+        List<D> entries = new ArrayList<>();
+        try (PreparedStatement statement = conn.prepareStatement(sql)) {
+            ResultSet resultSet = statement.executeQuery();
+            while (resultSet.next()) {
+                try {
+                    entries.add(this.readValue(resultSet));
+                }
+                catch (Exception ex) {
+                    if (exceptionConsumer != null) {
+                        exceptionConsumer.accept(ex);
+                    }
+                }
+            }
+        }
+        catch (SQLException ex) {
+            if (exceptionConsumer != null) {
+                exceptionConsumer.accept(ex);
+            }
+        }
+        finally {
+            try {
+                conn.close();
+            }
+            catch (SQLException e) {
+                // NO-OP
+            }
+        }
+
+        return ImmutableList.copyOf(entries);
+    }
+
+    @Override
+    public void streamEntries(@Nullable String after, int batchSize, @NotNull Predicate<Map<String, D>> batchConsumer) throws Exception {
+        String cursor = after;
+        while (true) {
+            Connection conn = this.getConnection();
+            if (conn == null) {
+                throw new IllegalStateException("Database connection is not active");
+            }
+
+            // keyset pagination, each batch is a single indexed range query
+            String sql = "SELECT data_key, storage FROM " + this.table
+                    + (cursor == null ? "" : " WHERE data_key > ?")
+                    + " ORDER BY data_key LIMIT ?";
+            Map<String, D> batch = new LinkedHashMap<>();
+            try (PreparedStatement statement = conn.prepareStatement(sql)) {
+                int index = 1;
+                if (cursor != null) {
+                    statement.setString(index++, cursor);
+                }
+                statement.setInt(index, batchSize);
+
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    while (resultSet.next()) {
+                        cursor = resultSet.getString("data_key");
+                        batch.put(cursor, this.readValue(resultSet));
+                    }
+                }
+            }
+            finally {
+                try {
+                    conn.close();
+                }
+                catch (SQLException e) {
+                    // NO-OP
+                }
+            }
+
+            if (batch.isEmpty() || !batchConsumer.test(batch) || batch.size() < batchSize) {
+                return;
+            }
+        }
+    }
+
+    @Override
+    public long countEntries() throws Exception {
+        Connection conn = this.getConnection();
+        if (conn == null) {
+            throw new IllegalStateException("Database connection is not active");
+        }
+
+        String sql = "SELECT COUNT(*) FROM " + this.table;
+        try (PreparedStatement statement = conn.prepareStatement(sql);
+             ResultSet resultSet = statement.executeQuery()) {
+            return resultSet.next() ? resultSet.getLong(1) : 0L;
+        }
+        finally {
+            try {
+                conn.close();
+            }
+            catch (SQLException e) {
+                // NO-OP
+            }
+        }
+    }
+
+    @Override
+    public @NotNull List<String> getKeys(int offset, int limit) throws Exception {
+        Connection conn = this.getConnection();
+        if (conn == null) {
+            throw new IllegalStateException("Database connection is not active");
+        }
+
+        // only the unique index on data_key is scanned
+        String sql = "SELECT data_key FROM " + this.table + " ORDER BY data_key LIMIT ? OFFSET ?";
+        List<String> keys = new ArrayList<>();
+        try (PreparedStatement statement = conn.prepareStatement(sql)) {
+            statement.setInt(1, limit);
+            statement.setInt(2, offset);
+
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    keys.add(resultSet.getString("data_key"));
+                }
+            }
+        }
+        finally {
+            try {
+                conn.close();
+            }
+            catch (SQLException e) {
+                // NO-OP
+            }
+        }
+
+        return ImmutableList.copyOf(keys);
+    }
+
+    @Override
+    public @NotNull Map<String, D> getEntries(@Nullable String from, @Nullable String to, int offset, int limit) throws Exception {
+        Connection conn = this.getConnection();
+        if (conn == null) {
+            throw new IllegalStateException("Database connection is not active");
+        }
+
+        StringBuilder sql = new StringBuilder("SELECT data_key, storage FROM ").append(this.table);
+        if (from != null || to != null) {
+            sql.append(" WHERE ");
+            if (from != null) {
+                sql.append("data_key >= ?");
+            }
+            if (to != null) {
+                sql.append(from != null ? " AND " : "").append("data_key < ?");
+            }
+        }
+        sql.append(" ORDER BY data_key LIMIT ? OFFSET ?");
+
+        Map<String, D> entries = new LinkedHashMap<>();
+        try (PreparedStatement statement = conn.prepareStatement(sql.toString())) {
+            int index = 1;
+            if (from != null) {
+                statement.setString(index++, from);
+            }
+            if (to != null) {
+                statement.setString(index++, to);
+            }
+            statement.setInt(index++, limit);
+            statement.setInt(index, offset);
+
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    entries.put(resultSet.getString("data_key"), this.readValue(resultSet));
+                }
+            }
+        }
+        finally {
+            try {
+                conn.close();
+            }
+            catch (SQLException e) {
+                // NO-OP
+            }
+        }
+
+        return entries;
+    }
+
+    @Override
+    public void shutdown() {
+        this.connection.shutdown();
+    }
+
+    private void writeValue(@NotNull PreparedStatement statement, int index, @NotNull D data) throws SQLException {
+        String json = this.gson.toJson(data);
+        if (this.binary) {
+            statement.setBytes(index, this.compression.encode(json));
+        }
+        else {
+            statement.setString(index, json);
+        }
+    }
+
+    private @NotNull D readValue(@NotNull ResultSet resultSet) throws SQLException {
+        String json;
+        if (this.binary) {
+            try {
+                json = ValueCompression.decode(resultSet.getBytes("storage"));
+            }
+            catch (IOException ex) {
+                throw new SQLException("Unable to decompress stored value", ex);
+            }
+        }
+        else {
+            json = resultSet.getString("storage");
+        }
+        return this.gson.fromJson(json, this.dataType);
+    }
+
+    private @NotNull Object serializeKey(@NotNull K key) {
+        SerializerRegistry registry = this.plugin.getSerializerRegistry();
+        KeySerializer<K, ?> serializer = null;
+        for (Class<?> clazz : registry.getKeySerializers().keySet()) {
+            if (clazz.isAssignableFrom(key.getClass())) {
+                serializer = (KeySerializer<K, ?>) registry.getKeySerializer(clazz);
+            }
+        }
+
+        if (serializer == null) {
+            throw new NullPointerException(String.format("No key serializer registered for type \"%s\"", key.getClass().getName()));
+        }
+
+        return serializer.serialize(key);
+    }
+
+    private @Nullable Connection getConnection() {
+        try {
+            return this.connection.getConnection();
+        }
+        catch (SQLException ex) {
+            ex.printStackTrace();
+            return null;
+        }
+    }
+
+    private boolean doesTableExist() throws SQLException {
+        try (Connection conn = this.connection.getConnection()) {
+            return this.resolveTableName(conn.getMetaData()) != null;
+        }
+    }
+
+    /**
+     * Some databases store unquoted identifiers in upper or lower
+     * case, so the table is looked up in each form.
+     */
+    private @Nullable String resolveTableName(@NotNull DatabaseMetaData meta) throws SQLException {
+        for (String name : new String[] { this.table, this.table.toUpperCase(Locale.ROOT), this.table.toLowerCase(Locale.ROOT) }) {
+            try (ResultSet rs = meta.getTables(null, null, name, null)) {
+                if (rs.next()) {
+                    return name;
+                }
+            }
+        }
+        return null;
+    }
+
+    private void createTable() throws SQLException {
+        String sql = this.dialect.createTable(this.table, this.binary);
+        try (Connection conn = this.connection.getConnection();
+             Statement statement = conn.createStatement()) {
+            statement.execute(sql);
+        }
+    }
+
+    private boolean validateColumns() throws SQLException {
+        String[] columns = { "id", "data_key", "storage" };
+        List<String> existingColumns = new ArrayList<>();
+        String storageType = null;
+
+        try (Connection conn = this.connection.getConnection()) {
+            DatabaseMetaData meta = conn.getMetaData();
+            try (ResultSet rs = meta.getColumns(null, null, this.resolveTableName(meta), null)) {
+                while (rs.next()) {
+                    String column = rs.getString("COLUMN_NAME").toLowerCase(Locale.ROOT);
+                    existingColumns.add(column);
+                    if ("storage".equals(column)) {
+                        storageType = rs.getString("TYPE_NAME");
+                    }
+                }
+            }
+        }
+
+        // binary values cannot be written to a text column and vice versa
+        if (storageType != null && this.dialect.isBinaryColumn(storageType) != this.binary) {
+            return false;
+        }
+
+        for (String column : columns) {
+            if (!existingColumns.contains(column))
+                return false;
+        }
+        return true;
+    }
+
+    /**
+     * Helper method to return a new builder instance.
+     *
+     * @see Builder
+     * @param dialect The dialect of the database
+     * @return New builder for this class
+     * @since 0.4.10
+     */
+    public static <K, D> @NotNull Builder<K, D> builder(@NotNull SqlDialect dialect) {
+        return new Builder<>(dialect);
+    }
+
+    /**
+     * Used to construct a new {@link JdbcDriver} for any {@link SqlDialect}.
+     *
+     * @see co.crystaldev.alpinecore.framework.storage.AlpineStore
+     * @since 0.4.10
+     */
+    public static final class Builder<K, D> extends AbstractBuilder<K, D, Builder<K, D>> {
+
+        private final SqlDialect dialect;
+        private String url;
+        private String username;
+        private String password;
+
+        private Builder(@NotNull SqlDialect dialect) {
+            this.dialect = dialect;
+        }
+
+        @Contract("_ -> this")
+        public @NotNull Builder<K, D> url(@NotNull String url) {
+            this.url = url;
+            return this;
+        }
+
+        @Contract("_, _ -> this")
+        public @NotNull Builder<K, D> credentials(@NotNull String username, @NotNull String password) {
+            this.username = username;
+            this.password = password;
+            return this;
+        }
+
+        public @NotNull JdbcDriver<K, D> build(@NotNull AlpinePlugin plugin) {
+            Validate.notNull(this.dialect, "dialect must not be null");
+            Validate.notNull(this.url, "url must not be null");
+            this.validate();
+            return new JdbcDriver<>(plugin, this.dialect, this.url, this.table, this.username, this.password, this.dataType,
+                    this.gson, this.binary, this.compression);
+        }
+    }
+
+    /**
+     * The options shared by the builders of every {@link JdbcDriver}.
+     *
+     * @param <B> the type of the builder
+     * @since 0.4.10
+     */
+    public abstract static class AbstractBuilder<K, D, B extends AbstractBuilder<K, D, B>> {
+
+        protected String table;
+
+        protected Class<D> dataType;
+
+        protected Gson gson = Reference.GSON;
+
+        protected boolean binary;
+        protected ValueCompression compression = ValueCompression.NONE;
+
+        @Contract("_ -> this")
+        public @NotNull B table(@NotNull String table) {
+            this.table = table;
+            return this.self();
+        }
+
+        @Contract("_ -> this")
+        public @NotNull B dataType(@NotNull Class<D> dataType) {
+            this.dataType = dataType;
+            return this.self();
+        }
+
+        @Contract("_ -> this")
+        public @NotNull B gson(@NotNull Gson gson) {
+            this.gson = gson;
+            return this.self();
+        }
+
+        /**
+         * Stores values in a binary column instead of a text column.
+         * <p>
+         * Existing tables must already use a binary column, use a
+         * {@link co.crystaldev.alpinecore.framework.storage.DriverMigration}
+         * to move entries from a table using a text column.
+         */
+        @Contract("_ -> this")
+        public @NotNull B binary(boolean binary) {
+            this.binary = binary;
+            return this.self();
+        }
+
+        /**
+         * Compresses values whose serialized size reaches the threshold
+         * of the given compression.
+         * <p>
+         * Compressed values require a binary column, so enabling
+         * compression implies {@link #binary(boolean)}.
+         */
+        @Contract("_ -> this")
+        public @NotNull B compression(@NotNull ValueCompression compression) {
+            this.compression = compression;
+            if (compression.isEnabled()) {
+                this.binary = true;
+            }
+            return this.self();
+        }
+
+        /**
+         * Validates the shared options before a driver is built.
+         *
+         * @throws IllegalArgumentException if an option is missing or invalid
+         */
+        protected void validate() {
+            Validate.notNull(this.table, "table must not be null");
+            Validate.notNull(this.dataType, "dataType must not be null");
+            Validate.notNull(this.gson, "gson must not be null");
+            Validate.notNull(this.compression, "compression must not be null");
+            Validate.isTrue(this.binary || !this.compression.isEnabled(), "compression requires a binary column");
+        }
+
+        @SuppressWarnings("unchecked")
+        private @NotNull B self() {
+            return (B) this;
+        }
+    }
+}
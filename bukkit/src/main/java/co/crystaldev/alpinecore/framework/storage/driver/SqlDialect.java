@@ -0,0 +1,182 @@
+/*
+ * This file is part of AlpineCore - https://github.com/alpine-network/alpine-core
+ * Copyright (C) 2025 Crystal Development, LLC
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+package co.crystaldev.alpinecore.framework.storage.driver;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Locale;
+
+/**
+ * Provides the statements which differ between the
+ * databases supported by a {@link JdbcDriver}.
+ * <p>
+ * Every dialect operates on a table with an {@code id} column,
+ * a unique {@code data_key} column and a {@code storage} column.
+ * <p>
+ * Keys are ordered by their binary value, so that key and range
+ * queries return the same pages as other drivers. Tables created
+ * by earlier versions keep the collation they were created with.
+ *
+ * @since 0.4.10
+ */
+public interface SqlDialect {
+
+    /** The dialect for MySQL and MariaDB */
+    SqlDialect MYSQL = new MySqlDialect();
+
+    /** The dialect for embedded SQLite databases */
+    SqlDialect SQLITE = new SqliteDialect();
+
+    /** The dialect for embedded H2 databases */
+    SqlDialect H2 = new H2Dialect();
+
+    /**
+     * Creates a statement which inserts or replaces the value
+     * of a key, with the key and value as its parameters.
+     *
+     * @param table The table name
+     * @return The statement
+     */
+    @NotNull String upsert(@NotNull String table);
+
+    /**
+     * Creates a statement which creates the table, with
+     * a {@code data_key} column which compares by binary value.
+     *
+     * @param table  The table name
+     * @param binary Whether the storage column holds binary values
+     * @return The statement
+     */
+    @NotNull String createTable(@NotNull String table, boolean binary);
+
+    /**
+     * Gets the parameters appended to the connection URL.
+     *
+     * @return The parameters
+     */
+    default @NotNull String getConnectionParameters() {
+        return "";
+    }
+
+    /**
+     * Gets the maximum number of pooled connections.
+     *
+     * @return The maximum number of connections
+     */
+    default int getMaxConnections() {
+        return 8;
+    }
+
+    /**
+     * Gets the class of the JDBC driver, which is loaded if it
+     * is not registered with the {@link java.sql.DriverManager}.
+     *
+     * @return The driver class name, or null if it is always registered
+     */
+    default @Nullable String getDriverClassName() {
+        return null;
+    }
+
+    /**
+     * Checks whether a column type holds binary values.
+     *
+     * @param typeName The type name reported by the database
+     * @return Whether the type is binary
+     */
+    default boolean isBinaryColumn(@NotNull String typeName) {
+        String type = typeName.toUpperCase(Locale.ROOT);
+        return type.contains("BLOB") || type.contains("BINARY");
+    }
+
+    /**
+     * Dialect for MySQL and MariaDB
+     * <p>
+     * Keys use a binary collation, as the default collations
+     * compare case-insensitively.
+     *
+     * @since 0.4.10
+     */
+    final class MySqlDialect implements SqlDialect {
+        @Override
+        public @NotNull String upsert(@NotNull String table) {
+            return "INSERT INTO " + table + " (data_key, storage) VALUES (?, ?) ON DUPLICATE KEY UPDATE storage = VALUES(storage)";
+        }
+
+        @Override
+        public @NotNull String createTable(@NotNull String table, boolean binary) {
+            return "CREATE TABLE " + table + " (id INT AUTO_INCREMENT PRIMARY KEY, "
+                    + "data_key VARCHAR(255) CHARACTER SET utf8mb4 COLLATE utf8mb4_bin NOT NULL, storage "
+                    + (binary ? "LONGBLOB" : "JSON") + ", UNIQUE(data_key))";
+        }
+
+        @Override
+        public @NotNull String getConnectionParameters() {
+            return String.join("&",
+                    "?useJDBCCompliantTimezoneShift=true",
+                    "serverTimezone=UTC",
+                    "useUnicode=true"
+            );
+        }
+    }
+
+    /**
+     * Dialect for SQLite, which is bundled with the server.
+     * <p>
+     * SQLite only permits a single writer, so connections
+     * are not pooled.
+     *
+     * @since 0.4.10
+     */
+    final class SqliteDialect implements SqlDialect {
+        @Override
+        public @NotNull String upsert(@NotNull String table) {
+            return "INSERT OR REPLACE INTO " + table + " (data_key, storage) VALUES (?, ?)";
+        }
+
+        @Override
+        public @NotNull String createTable(@NotNull String table, boolean binary) {
+            return "CREATE TABLE " + table + " (id INTEGER PRIMARY KEY AUTOINCREMENT, data_key VARCHAR(255) NOT NULL UNIQUE, storage "
+                    + (binary ? "BLOB" : "TEXT") + ")";
+        }
+
+        @Override
+        public int getMaxConnections() {
+            return 1;
+        }
+
+        @Override
+        public @NotNull String getDriverClassName() {
+            return "org.sqlite.JDBC";
+        }
+    }
+
+    /**
+     * Dialect for H2, which must be shaded by the plugin.
+     *
+     * @since 0.4.10
+     */
+    final class H2Dialect implements SqlDialect {
+        @Override
+        public @NotNull String upsert(@NotNull String table) {
+            return "MERGE INTO " + table + " (data_key, storage) KEY (data_key) VALUES (?, ?)";
+        }
+
+        @Override
+        public @NotNull String createTable(@NotNull String table, boolean binary) {
+            return "CREATE TABLE " + table + " (id INT AUTO_INCREMENT PRIMARY KEY, data_key VARCHAR(255) NOT NULL UNIQUE, storage "
+                    + (binary ? "BLOB" : "CLOB") + ")";
+        }
+
+        @Override
+        public @NotNull String getDriverClassName() {
+            return "org.h2.Driver";
+        }
+    }
+}
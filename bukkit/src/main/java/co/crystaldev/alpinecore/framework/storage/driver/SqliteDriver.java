@@ -0,0 +1,68 @@
+/*
+ * This file is part of AlpineCore - https://github.com/alpine-network/alpine-core
+ * Copyright (C) 2025 Crystal Development, LLC
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+package co.crystaldev.alpinecore.framework.storage.driver;
+
+import co.crystaldev.alpinecore.AlpinePlugin;
+import com.google.gson.Gson;
+import org.apache.commons.lang.Validate;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.File;
+
+/**
+ * A {@link JdbcDriver} backed by an embedded SQLite database,
+ * storing every entry in a single indexed file.
+ *
+ * @since 0.4.10
+ */
+@ApiStatus.Experimental
+public class SqliteDriver<K, D> extends JdbcDriver<K, D> {
+
+    private SqliteDriver(@NotNull AlpinePlugin plugin, @NotNull File file, @NotNull String table, @NotNull Class<D> dataType,
+                         @NotNull Gson gson, boolean binary, @NotNull ValueCompression compression) {
+        super(plugin, SqlDialect.SQLITE, "jdbc:sqlite:" + file.getAbsolutePath(), table, null, null, dataType, gson, binary, compression);
+    }
+
+    /**
+     * Helper method to return a new builder instance.
+     *
+     * @see Builder
+     * @return New builder for this class
+     */
+    public static <K, D> @NotNull Builder<K, D> builder() {
+        return new Builder<>();
+    }
+
+    /**
+     * Used to construct a new {@link SqliteDriver}.
+     *
+     * @see co.crystaldev.alpinecore.framework.storage.AlpineStore
+     */
+    public static final class Builder<K, D> extends JdbcDriver.AbstractBuilder<K, D, Builder<K, D>> {
+        private File file;
+
+        @Contract("_ -> this")
+        public @NotNull Builder<K, D> file(@NotNull File file) {
+            File parent = file.getAbsoluteFile().getParentFile();
+            if (parent != null && !parent.exists()) {
+                parent.mkdirs();
+            }
+            this.file = file;
+            return this;
+        }
+
+        public @NotNull SqliteDriver<K, D> build(@NotNull AlpinePlugin plugin) {
+            Validate.notNull(this.file, "file must not be null");
+            this.validate();
+            return new SqliteDriver<>(plugin, this.file, this.table, this.dataType, this.gson, this.binary, this.compression);
+        }
+    }
+}
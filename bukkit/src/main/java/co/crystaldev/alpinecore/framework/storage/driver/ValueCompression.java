@@ -0,0 +1,153 @@
+/*
+ * This file is part of AlpineCore - https://github.com/alpine-network/alpine-core
+ * Copyright (C) 2025 Crystal Development, LLC
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+package co.crystaldev.alpinecore.framework.storage.driver;
+
+import org.apache.commons.lang.Validate;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Transparent compression for serialized values.
+ * <p>
+ * Values whose serialized size reaches the threshold are written in the
+ * GZIP format, smaller values are written as plain UTF-8 text. Compressed
+ * values are detected by their GZIP header when read, so existing
+ * uncompressed entries remain readable and the threshold may be changed
+ * at any time.
+ *
+ * @since 0.4.10
+ */
+public final class ValueCompression {
+
+    /** Never compresses values */
+    public static final ValueCompression NONE = new ValueCompression(Integer.MAX_VALUE, Deflater.NO_COMPRESSION);
+
+    private static final int GZIP_MAGIC_0 = 0x1F;
+    private static final int GZIP_MAGIC_1 = 0x8B;
+
+    private final int threshold;
+    private final int level;
+
+    private ValueCompression(int threshold, int level) {
+        this.threshold = threshold;
+        this.level = level;
+    }
+
+    /**
+     * Creates a compression strategy favouring speed over ratio.
+     *
+     * @param threshold The minimum serialized size in bytes before a value is compressed
+     * @return The compression strategy
+     */
+    public static @NotNull ValueCompression threshold(int threshold) {
+        return of(threshold, Deflater.BEST_SPEED);
+    }
+
+    /**
+     * Creates a compression strategy.
+     *
+     * @param threshold The minimum serialized size in bytes before a value is compressed
+     * @param level     The deflate level, from {@link Deflater#BEST_SPEED} to {@link Deflater#BEST_COMPRESSION}
+     * @return The compression strategy
+     */
+    public static @NotNull ValueCompression of(int threshold, int level) {
+        Validate.isTrue(threshold >= 0, "Threshold must not be negative");
+        Validate.isTrue(level >= Deflater.BEST_SPEED && level <= Deflater.BEST_COMPRESSION, "Invalid compression level");
+        return new ValueCompression(threshold, level);
+    }
+
+    /**
+     * Checks whether this strategy may ever compress a value.
+     *
+     * @return Whether compression is enabled
+     */
+    public boolean isEnabled() {
+        return this != NONE;
+    }
+
+    /**
+     * Encodes a serialized value, compressing it if it reaches the threshold.
+     *
+     * @param value The serialized value
+     * @return The encoded bytes
+     */
+    public @NotNull byte[] encode(@NotNull String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length < this.threshold) {
+            return bytes;
+        }
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream(bytes.length / 4);
+        try (GZIPOutputStream gzip = new LeveledGZIPOutputStream(out, this.level)) {
+            gzip.write(bytes);
+        }
+        catch (IOException ex) {
+            // cannot happen for in-memory streams
+            throw new UncheckedIOException(ex);
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * Decodes a value written by {@link #encode(String)}.
+     *
+     * @param bytes The encoded bytes
+     * @return The serialized value
+     * @throws IOException If the value is compressed and corrupt
+     */
+    public static @NotNull String decode(@NotNull byte[] bytes) throws IOException {
+        if (bytes.length < 2 || !isCompressed(bytes[0], bytes[1])) {
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+
+        try (Reader reader = reader(new ByteArrayInputStream(bytes))) {
+            StringBuilder builder = new StringBuilder(bytes.length * 4);
+            char[] buffer = new char[8192];
+            int read;
+            while ((read = reader.read(buffer)) != -1) {
+                builder.append(buffer, 0, read);
+            }
+            return builder.toString();
+        }
+    }
+
+    /**
+     * Opens a reader over an encoded value, decompressing it if necessary.
+     *
+     * @param in The encoded input
+     * @return The reader
+     * @throws IOException If the input could not be read
+     */
+    public static @NotNull Reader reader(@NotNull InputStream in) throws IOException {
+        BufferedInputStream buffered = new BufferedInputStream(in);
+        buffered.mark(2);
+        int b0 = buffered.read();
+        int b1 = buffered.read();
+        buffered.reset();
+
+        InputStream stream = isCompressed(b0, b1) ? new GZIPInputStream(buffered) : buffered;
+        return new InputStreamReader(stream, StandardCharsets.UTF_8);
+    }
+
+    private static boolean isCompressed(int b0, int b1) {
+        return (b0 & 0xFF) == GZIP_MAGIC_0 && (b1 & 0xFF) == GZIP_MAGIC_1;
+    }
+
+    private static final class LeveledGZIPOutputStream extends GZIPOutputStream {
+        LeveledGZIPOutputStream(@NotNull OutputStream out, int level) throws IOException {
+            super(out);
+            this.def.setLevel(level);
+        }
+    }
+}
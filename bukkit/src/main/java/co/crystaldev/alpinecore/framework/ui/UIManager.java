@@ -91,7 +91,7 @@ public void open(@NotNull Player player, @NotNull InventoryUI ui, boolean force)
         holder.setContext(context);
 
         // create the inventory
-        Component title = this.plugin.getMiniMessage().deserialize(Formatting.placeholders(this.plugin,
+        Component title = this.plugin.getComponentCache().deserialize(Formatting.placeholders(this.plugin,
                 properties.getName(), ui.getHandler().getTitlePlaceholders(context)));
         if (ui.getType() == GuiType.CHEST) {
             context.setInventory(InventoryHelper.createInventory(holder, properties.getSlots().length * 9, title));
@@ -21,6 +21,7 @@
 import org.bukkit.inventory.ItemStack;
 import org.jetbrains.annotations.NotNull;
 
+import java.io.Serializable;
 import java.util.LinkedHashMap;
 import java.util.Map;
 
@@ -30,7 +31,7 @@
 @AllArgsConstructor @NoArgsConstructor @Getter
 @Configuration
 @Beta
-public final class ConfigInventoryUI {
+public final class ConfigInventoryUI implements Serializable {
 
     private String name;
 
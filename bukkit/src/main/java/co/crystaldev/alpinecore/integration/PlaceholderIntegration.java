@@ -11,16 +11,27 @@
 import co.crystaldev.alpinecore.AlpinePlugin;
 import co.crystaldev.alpinecore.framework.integration.AlpineIntegration;
 import co.crystaldev.alpinecore.framework.integration.AlpineIntegrationEngine;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import me.clip.placeholderapi.PlaceholderAPI;
 import net.kyori.adventure.text.minimessage.MiniMessage;
 import net.kyori.adventure.text.serializer.legacy.LegacyComponentSerializer;
+import org.apache.commons.lang.Validate;
+import org.bukkit.Bukkit;
 import org.bukkit.ChatColor;
 import org.bukkit.OfflinePlayer;
 import org.bukkit.command.CommandSender;
 import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.player.PlayerQuitEvent;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -36,6 +47,8 @@
  */
 public final class PlaceholderIntegration extends AlpineIntegration {
 
+    static final Pattern PLACEHOLDER_PATTERN = Pattern.compile("%([^%]+)%");
+
     /**
      * Reflectively accessed dependency injection constructor.
      *
@@ -133,12 +146,78 @@ protected boolean shouldActivate() {
         }
     }
 
+    /**
+     * Resolves every placeholder within the given texts into a snapshot.
+     * <p>
+     * This must be called on the main thread. The snapshot may then be used
+     * to replace placeholders from any thread.
+     *
+     * @param target      the player to be replaced against
+     * @param other       the relational player to be replaced against
+     * @param miniMessage whether output chat colors should be serialized into {@link MiniMessage}
+     * @param texts       the texts containing placeholders
+     * @return the snapshot, which is empty if the integration is inactive
+     */
+    public @NotNull PlaceholderSnapshot snapshot(@Nullable OfflinePlayer target, @Nullable OfflinePlayer other,
+                                                 boolean miniMessage, @NotNull Collection<String> texts) {
+        if (target == null || !this.isActive()) {
+            return PlaceholderSnapshot.EMPTY;
+        }
+
+        Validate.isTrue(Bukkit.isPrimaryThread(), "Placeholders must be resolved on the main thread");
+
+        Set<String> placeholders = new LinkedHashSet<>();
+        for (String text : texts) {
+            placeholders.addAll(PlaceholderSnapshot.findPlaceholders(text));
+        }
+
+        if (placeholders.isEmpty()) {
+            return PlaceholderSnapshot.EMPTY;
+        }
+
+        return new PlaceholderSnapshot(this.getEngine().resolve(target, other, placeholders, miniMessage));
+    }
+
+    /**
+     * Resolves every placeholder within the given texts into a snapshot on
+     * the main thread, completing immediately if called from it.
+     *
+     * @param target      the player to be replaced against
+     * @param other       the relational player to be replaced against
+     * @param miniMessage whether output chat colors should be serialized into {@link MiniMessage}
+     * @param texts       the texts containing placeholders
+     * @return a future completed with the snapshot
+     * @see #snapshot(OfflinePlayer, OfflinePlayer, boolean, Collection)
+     */
+    public @NotNull CompletableFuture<PlaceholderSnapshot> snapshotAsync(@Nullable OfflinePlayer target,
+                                                                         @Nullable OfflinePlayer other,
+                                                                         boolean miniMessage,
+                                                                         @NotNull Collection<String> texts) {
+        if (Bukkit.isPrimaryThread()) {
+            return CompletableFuture.completedFuture(this.snapshot(target, other, miniMessage, texts));
+        }
+
+        CompletableFuture<PlaceholderSnapshot> future = new CompletableFuture<>();
+        Bukkit.getScheduler().runTask(this.plugin, () -> {
+            try {
+                future.complete(this.snapshot(target, other, miniMessage, texts));
+            }
+            catch (Throwable ex) {
+                future.completeExceptionally(ex);
+            }
+        });
+        return future;
+    }
+
     /**
      * @since 0.4.2
      */
     public static final class PlaceholderEngine extends AlpineIntegrationEngine {
 
-        private static final Pattern PLACEHOLDER_PATTERN = Pattern.compile("%([^%]+)%");
+        private static final String DEFAULT_CACHE_KEY = "default";
+
+        /** Resolved placeholder values, per online player */
+        private final Map<UUID, Cache<String, CachedPlaceholder>> cache = new ConcurrentHashMap<>();
 
         PlaceholderEngine(@NotNull AlpinePlugin plugin) {
             super(plugin);
@@ -150,12 +229,12 @@ public static final class PlaceholderEngine extends AlpineIntegrationEngine {
             }
 
             if (sender instanceof Player) {
-                return sanitize(this.plugin, miniMessage, text, v -> {
+                return this.sanitize(miniMessage, text, cacheOwner(sender), v -> {
                     return PlaceholderAPI.setPlaceholders((Player) sender, v);
                 });
             }
             else {
-                return sanitize(this.plugin, miniMessage, text, v -> {
+                return this.sanitize(miniMessage, text, null, v -> {
                     return PlaceholderAPI.setPlaceholders(sender, v);
                 });
             }
@@ -170,12 +249,12 @@ public static final class PlaceholderEngine extends AlpineIntegrationEngine {
             text = this.replace(sender, text, miniMessage);
 
             if (sender instanceof Player) {
-                return sanitize(this.plugin, miniMessage, text, v -> {
+                return this.sanitize(miniMessage, text, null, v -> {
                     return PlaceholderAPI.setRelationalPlaceholders((Player) sender, (Player) target, v);
                 });
             }
             else {
-                return sanitize(this.plugin, miniMessage, text, v -> {
+                return this.sanitize(miniMessage, text, null, v -> {
                     return PlaceholderAPI.setPlaceholders(sender, v);
                 });
             }
@@ -202,30 +281,201 @@ public static final class PlaceholderEngine extends AlpineIntegrationEngine {
             return this.replace((OfflinePlayer) sender, (Player) target, text, miniMessage);
         }
 
-        private static @NotNull String sanitize(@NotNull AlpinePlugin plugin, boolean serialize, @NotNull String text,
-                                                @NotNull Function<String, String> transformer) {
-            Matcher matcher = PLACEHOLDER_PATTERN.matcher(text);
-            while (matcher.find()) {
-                String placeholder = matcher.group();
-                String replaced = transformer.apply(placeholder);
+        /**
+         * Resolves a batch of placeholders for a player.
+         * <p>
+         * Each placeholder is resolved once, reusing any value cached
+         * for the player. Values are only cached for online players.
+         *
+         * @param player       the player to resolve against
+         * @param placeholders the placeholders, including their percent symbols
+         * @param miniMessage  whether output chat colors should be serialized into {@link MiniMessage}
+         * @return the resolved values, keyed by placeholder
+         */
+        public @NotNull Map<String, String> resolve(@NotNull OfflinePlayer player, @NotNull Collection<String> placeholders,
+                                                    boolean miniMessage) {
+            Function<String, String> transformer = player instanceof Player
+                    ? v -> PlaceholderAPI.setPlaceholders((Player) player, v)
+                    : v -> PlaceholderAPI.setPlaceholders(player, v);
 
-                if (replaced.trim().isEmpty()) {
-                    text = text.replace(placeholder, "");
-                    continue;
+            UUID cacheOwner = cacheOwner(player);
+            Map<String, String> resolved = new HashMap<>();
+            for (String placeholder : placeholders) {
+                if (!resolved.containsKey(placeholder)) {
+                    resolved.put(placeholder, this.resolve(miniMessage, placeholder, cacheOwner, transformer));
                 }
+            }
+            return resolved;
+        }
 
-                replaced = ChatColor.translateAlternateColorCodes('&', replaced);
+        /**
+         * Resolves a batch of placeholders for a player, including relational
+         * placeholders if both players are online.
+         *
+         * @param player       the player to resolve against
+         * @param other        the relational player to resolve against
+         * @param placeholders the placeholders, including their percent symbols
+         * @param miniMessage  whether output chat colors should be serialized into {@link MiniMessage}
+         * @return the resolved values, keyed by placeholder
+         */
+        public @NotNull Map<String, String> resolve(@NotNull OfflinePlayer player, @Nullable OfflinePlayer other,
+                                                    @NotNull Collection<String> placeholders, boolean miniMessage) {
+            if (!(player instanceof Player) || !(other instanceof Player)) {
+                return this.resolve(player, placeholders, miniMessage);
+            }
 
-                if (serialize && replaced.contains("§")) {
-                    MiniMessage miniMessage = plugin.getStrictMiniMessage();
-                    LegacyComponentSerializer serializer = LegacyComponentSerializer.legacySection();
-                    replaced = miniMessage.serialize(serializer.deserialize(replaced));
+            List<String> standard = new ArrayList<>(placeholders.size());
+            List<String> relational = new ArrayList<>();
+            for (String placeholder : placeholders) {
+                if (placeholder.startsWith("%rel_")) {
+                    relational.add(placeholder);
                 }
+                else {
+                    standard.add(placeholder);
+                }
+            }
 
-                text = text.replace(placeholder, replaced);
+            Map<String, String> resolved = this.resolve(player, standard, miniMessage);
+            for (String placeholder : relational) {
+                resolved.put(placeholder, this.resolve(miniMessage, placeholder, null, v -> {
+                    return PlaceholderAPI.setRelationalPlaceholders((Player) player, (Player) other, v);
+                }));
             }
+            return resolved;
+        }
 
-            return text;
+        /**
+         * Discards the cached placeholder values of a player.
+         *
+         * @param player the player
+         */
+        public void invalidate(@NotNull OfflinePlayer player) {
+            this.cache.remove(player.getUniqueId());
+        }
+
+        /**
+         * Discards every cached placeholder value.
+         */
+        public void invalidateAll() {
+            this.cache.clear();
+        }
+
+        // monitored so that values resolved by other quit listeners are discarded too
+        @EventHandler(priority = EventPriority.MONITOR)
+        private void onPlayerQuit(PlayerQuitEvent event) {
+            this.invalidate(event.getPlayer());
+        }
+
+        private @NotNull String sanitize(boolean serialize, @NotNull String text, @Nullable UUID cacheOwner,
+                                         @NotNull Function<String, String> transformer) {
+            if (text.indexOf('%') == -1) {
+                return text;
+            }
+
+            Matcher matcher = PLACEHOLDER_PATTERN.matcher(text);
+            if (!matcher.find()) {
+                return text;
+            }
+
+            StringBuilder builder = new StringBuilder(text.length() + 32);
+            int literalStart = 0;
+            do {
+                builder.append(text, literalStart, matcher.start());
+                builder.append(this.resolve(serialize, matcher.group(), cacheOwner, transformer));
+                literalStart = matcher.end();
+            }
+            while (matcher.find());
+
+            return builder.append(text, literalStart, text.length()).toString();
+        }
+
+        private @NotNull String resolve(boolean serialize, @NotNull String placeholder, @Nullable UUID cacheOwner,
+                                        @NotNull Function<String, String> transformer) {
+            long duration = cacheOwner == null ? 0L : this.getCacheDuration(placeholder);
+            if (duration <= 0L) {
+                return this.present(serialize, this.resolveRaw(placeholder, transformer));
+            }
+
+            Cache<String, CachedPlaceholder> values = this.cache.computeIfAbsent(cacheOwner, k -> this.createCache());
+            long now = System.currentTimeMillis();
+            CachedPlaceholder cached = values.getIfPresent(placeholder);
+            if (cached == null || now >= cached.expiresAt) {
+                cached = new CachedPlaceholder(this.resolveRaw(placeholder, transformer), now + duration);
+                values.put(placeholder, cached);
+            }
+            if (!serialize) {
+                return cached.value;
+            }
+
+            String serialized = cached.serialized;
+            if (serialized == null) {
+                cached.serialized = serialized = this.present(true, cached.value);
+            }
+            return serialized;
+        }
+
+        private @NotNull String present(boolean serialize, @NotNull String value) {
+            if (serialize && value.contains("§")) {
+                MiniMessage miniMessage = this.plugin.getStrictMiniMessage();
+                LegacyComponentSerializer serializer = LegacyComponentSerializer.legacySection();
+                return miniMessage.serialize(serializer.deserialize(value));
+            }
+            return value;
+        }
+
+        private @NotNull String resolveRaw(@NotNull String placeholder, @NotNull Function<String, String> transformer) {
+            String replaced = transformer.apply(placeholder);
+            if (replaced == null || replaced.trim().isEmpty()) {
+                return "";
+            }
+            return ChatColor.translateAlternateColorCodes('&', replaced);
+        }
+
+        /**
+         * Creates the cache of a player's values. Values are evicted once the longest
+         * configured duration has passed, so that placeholders which are no longer
+         * resolved do not linger until the player quits.
+         */
+        private @NotNull Cache<String, CachedPlaceholder> createCache() {
+            Map<String, Long> durations = this.plugin.getAlpineConfig().placeholderCacheDurations;
+            long longest = durations == null || durations.isEmpty() ? 0L : Collections.max(durations.values());
+            return CacheBuilder.newBuilder()
+                    .expireAfterWrite(Math.max(longest, 1L), TimeUnit.MILLISECONDS)
+                    .build();
+        }
+
+        private static @Nullable UUID cacheOwner(@NotNull OfflinePlayer player) {
+            return player instanceof Player && player.isOnline() ? player.getUniqueId() : null;
+        }
+
+        private long getCacheDuration(@NotNull String placeholder) {
+            Map<String, Long> durations = this.plugin.getAlpineConfig().placeholderCacheDurations;
+            if (durations == null || durations.isEmpty() || placeholder.startsWith("%rel_")) {
+                return 0L;
+            }
+
+            int separator = placeholder.indexOf('_');
+            if (separator != -1) {
+                Long duration = durations.get(placeholder.substring(1, separator));
+                if (duration != null) {
+                    return duration;
+                }
+            }
+
+            Long duration = durations.get(DEFAULT_CACHE_KEY);
+            return duration == null ? 0L : duration;
+        }
+    }
+
+    private static final class CachedPlaceholder {
+        final String value;
+        final long expiresAt;
+        /** The value serialized into MiniMessage, computed on first use */
+        volatile String serialized;
+
+        CachedPlaceholder(@NotNull String value, long expiresAt) {
+            this.value = value;
+            this.expiresAt = expiresAt;
         }
     }
 }
@@ -0,0 +1,124 @@
+/*
+ * This file is part of AlpineCore - https://github.com/alpine-network/alpine-core
+ * Copyright (C) 2025 Crystal Development, LLC
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+package co.crystaldev.alpinecore.integration;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+
+/**
+ * An immutable set of PlaceholderAPI values resolved ahead of time.
+ * <p>
+ * Many PlaceholderAPI expansions may only be used on the main thread. A snapshot
+ * is resolved there in a single batch, after which it may be used to replace
+ * placeholders from any thread.
+ *
+ * @see PlaceholderIntegration#snapshot(org.bukkit.OfflinePlayer, org.bukkit.OfflinePlayer, boolean, java.util.Collection)
+ * @since 0.4.10
+ */
+public final class PlaceholderSnapshot {
+
+    /** A snapshot without any values, which leaves text unchanged */
+    public static final PlaceholderSnapshot EMPTY = new PlaceholderSnapshot(Collections.emptyMap());
+
+    private final Map<String, String> values;
+
+    PlaceholderSnapshot(@NotNull Map<String, String> values) {
+        this.values = Collections.unmodifiableMap(values);
+    }
+
+    /**
+     * Gets the resolved value of a placeholder.
+     *
+     * @param placeholder the placeholder, including its percent symbols
+     * @return the value, or null if it is not part of this snapshot
+     */
+    public @Nullable String get(@NotNull String placeholder) {
+        return this.values.get(placeholder);
+    }
+
+    /**
+     * Gets every resolved value, keyed by placeholder.
+     *
+     * @return the values
+     */
+    public @NotNull Map<String, String> getValues() {
+        return this.values;
+    }
+
+    public boolean isEmpty() {
+        return this.values.isEmpty();
+    }
+
+    /**
+     * Replaces the placeholders in the given text with their resolved values.
+     * Placeholders which are not part of this snapshot are left unchanged.
+     *
+     * @param text the text to replace placeholders in
+     * @return the modified text
+     */
+    public @NotNull String replace(@NotNull String text) {
+        if (this.values.isEmpty() || text.indexOf('%') == -1) {
+            return text;
+        }
+
+        Matcher matcher = PlaceholderIntegration.PLACEHOLDER_PATTERN.matcher(text);
+        StringBuilder builder = null;
+        int literalStart = 0;
+        while (matcher.find()) {
+            String value = this.values.get(matcher.group());
+            if (value == null) {
+                continue;
+            }
+
+            if (builder == null) {
+                builder = new StringBuilder(text.length() + 32);
+            }
+            builder.append(text, literalStart, matcher.start()).append(value);
+            literalStart = matcher.end();
+        }
+
+        return builder == null ? text : builder.append(text, literalStart, text.length()).toString();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return this == other || other instanceof PlaceholderSnapshot
+                && this.values.equals(((PlaceholderSnapshot) other).values);
+    }
+
+    @Override
+    public int hashCode() {
+        return this.values.hashCode();
+    }
+
+    /**
+     * Finds every placeholder within the given text.
+     *
+     * @param text the text
+     * @return the placeholders, including their percent symbols
+     */
+    public static @NotNull Set<String> findPlaceholders(@NotNull String text) {
+        if (text.indexOf('%') == -1) {
+            return Collections.emptySet();
+        }
+
+        Set<String> placeholders = new LinkedHashSet<>();
+        Matcher matcher = PlaceholderIntegration.PLACEHOLDER_PATTERN.matcher(text);
+        while (matcher.find()) {
+            placeholders.add(matcher.group());
+        }
+        return placeholders;
+    }
+}
@@ -0,0 +1,185 @@
+/*
+ * This file is part of AlpineCore - https://github.com/alpine-network/alpine-core
+ * Copyright (C) 2025 Crystal Development, LLC
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+package co.crystaldev.alpinecore.util;
+
+import lombok.experimental.UtilityClass;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.serializer.legacy.LegacyComponentSerializer;
+import org.bukkit.Bukkit;
+import org.bukkit.event.inventory.InventoryType;
+import org.bukkit.inventory.Inventory;
+import org.bukkit.inventory.InventoryHolder;
+import org.bukkit.inventory.meta.ItemMeta;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Bridges the native Adventure APIs of Paper based servers, falling back
+ * to legacy strings on servers without them.
+ * <p>
+ * The native methods are resolved once into constant {@link MethodHandle}s,
+ * which the JIT can inline as if they were called directly. A method which
+ * is missing is left null, in which case the legacy implementation is used.
+ *
+ * @since 0.4.10
+ */
+@UtilityClass
+final class AdventureBridge {
+
+    private static final MethodHandle ITEM_META_GET_DISPLAY_NAME = findVirtual(ItemMeta.class, "displayName",
+            MethodType.methodType(Component.class));
+
+    private static final MethodHandle ITEM_META_SET_DISPLAY_NAME = findVirtual(ItemMeta.class, "displayName",
+            MethodType.methodType(void.class, Component.class));
+
+    private static final MethodHandle ITEM_META_GET_LORE = findVirtual(ItemMeta.class, "lore",
+            MethodType.methodType(List.class));
+
+    private static final MethodHandle ITEM_META_SET_LORE = findVirtual(ItemMeta.class, "lore",
+            MethodType.methodType(void.class, List.class));
+
+    private static final MethodHandle BUKKIT_CREATE_CHEST_INVENTORY = findStatic(Bukkit.class, "createInventory",
+            MethodType.methodType(Inventory.class, InventoryHolder.class, int.class, Component.class));
+
+    private static final MethodHandle BUKKIT_CREATE_VARYING_INVENTORY = findStatic(Bukkit.class, "createInventory",
+            MethodType.methodType(Inventory.class, InventoryHolder.class, InventoryType.class, Component.class));
+
+    static @Nullable Component getDisplayName(@NotNull ItemMeta meta) {
+        if (ITEM_META_GET_DISPLAY_NAME != null) {
+            try {
+                return (Component) ITEM_META_GET_DISPLAY_NAME.invokeExact(meta);
+            }
+            catch (Throwable ex) {
+                throw propagate(ex);
+            }
+        }
+        else {
+            String name = meta.getDisplayName();
+            return name == null ? null : LegacyComponentSerializer.legacySection().deserialize(name);
+        }
+    }
+
+    static void setDisplayName(@NotNull ItemMeta meta, @NotNull Component name) {
+        if (ITEM_META_SET_DISPLAY_NAME != null) {
+            try {
+                ITEM_META_SET_DISPLAY_NAME.invokeExact(meta, name);
+            }
+            catch (Throwable ex) {
+                throw propagate(ex);
+            }
+        }
+        else {
+            meta.setDisplayName(LegacyComponentSerializer.legacySection().serialize(name));
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    static @Nullable List<Component> getLore(@NotNull ItemMeta meta) {
+        if (ITEM_META_GET_LORE != null) {
+            try {
+                return (List<Component>) ITEM_META_GET_LORE.invokeExact(meta);
+            }
+            catch (Throwable ex) {
+                throw propagate(ex);
+            }
+        }
+        else {
+            List<String> lore = meta.getLore();
+            if (lore == null) {
+                return null;
+            }
+
+            List<Component> deserialized = new ArrayList<>(lore.size());
+            for (String line : lore) {
+                deserialized.add(LegacyComponentSerializer.legacySection().deserialize(line));
+            }
+            return deserialized;
+        }
+    }
+
+    static void setLore(@NotNull ItemMeta meta, @NotNull List<Component> lore) {
+        if (ITEM_META_SET_LORE != null) {
+            try {
+                ITEM_META_SET_LORE.invokeExact(meta, lore);
+            }
+            catch (Throwable ex) {
+                throw propagate(ex);
+            }
+        }
+        else {
+            List<String> serialized = new ArrayList<>(lore.size());
+            for (Component line : lore) {
+                serialized.add(LegacyComponentSerializer.legacySection().serialize(line));
+            }
+            meta.setLore(serialized);
+        }
+    }
+
+    static @NotNull Inventory createInventory(@NotNull InventoryHolder holder, int slots, @NotNull Component title) {
+        if (BUKKIT_CREATE_CHEST_INVENTORY != null) {
+            try {
+                return (Inventory) BUKKIT_CREATE_CHEST_INVENTORY.invokeExact(holder, slots, title);
+            }
+            catch (Throwable ex) {
+                throw propagate(ex);
+            }
+        }
+        else {
+            return Bukkit.createInventory(holder, slots, LegacyComponentSerializer.legacySection().serialize(title));
+        }
+    }
+
+    static @NotNull Inventory createInventory(@NotNull InventoryHolder holder, @NotNull InventoryType type, @NotNull Component title) {
+        if (BUKKIT_CREATE_VARYING_INVENTORY != null) {
+            try {
+                return (Inventory) BUKKIT_CREATE_VARYING_INVENTORY.invokeExact(holder, type, title);
+            }
+            catch (Throwable ex) {
+                throw propagate(ex);
+            }
+        }
+        else {
+            return Bukkit.createInventory(holder, type, LegacyComponentSerializer.legacySection().serialize(title));
+        }
+    }
+
+    private static @Nullable MethodHandle findVirtual(@NotNull Class<?> clazz, @NotNull String name, @NotNull MethodType type) {
+        try {
+            return MethodHandles.publicLookup().findVirtual(clazz, name, type);
+        }
+        catch (Exception ignored) {
+            return null;
+        }
+    }
+
+    private static @Nullable MethodHandle findStatic(@NotNull Class<?> clazz, @NotNull String name, @NotNull MethodType type) {
+        try {
+            return MethodHandles.publicLookup().findStatic(clazz, name, type);
+        }
+        catch (Exception ignored) {
+            return null;
+        }
+    }
+
+    private static @NotNull RuntimeException propagate(@NotNull Throwable throwable) {
+        if (throwable instanceof RuntimeException) {
+            return (RuntimeException) throwable;
+        }
+        if (throwable instanceof Error) {
+            throw (Error) throwable;
+        }
+        return new IllegalStateException(throwable);
+    }
+}
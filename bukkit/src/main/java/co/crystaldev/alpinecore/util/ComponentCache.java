@@ -0,0 +1,126 @@
+/*
+ * This file is part of AlpineCore - https://github.com/alpine-network/alpine-core
+ * Copyright (C) 2025 Crystal Development, LLC
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+package co.crystaldev.alpinecore.util;
+
+import co.crystaldev.alpinecore.AlpinePlugin;
+import co.crystaldev.alpinecore.framework.config.AlpinePluginConfig;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import lombok.Getter;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.minimessage.MiniMessage;
+import net.kyori.adventure.text.minimessage.tag.resolver.TagResolver;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * A bounded cache of components deserialized by a {@link MiniMessage} instance,
+ * keyed by their input string.
+ * <p>
+ * Components are immutable, so identical inputs such as static messages and
+ * lore lines are only parsed once. The least recently used entries are evicted
+ * once the cache is full.
+ * <p>
+ * The styles available to the parser are defined by the plugin configuration,
+ * so the cache is invalidated whenever the plugin's configuration is replaced.
+ *
+ * @see AlpinePlugin#getComponentCache()
+ * @since 0.4.10
+ */
+public final class ComponentCache {
+
+    /** The default maximum number of cached components */
+    public static final int DEFAULT_MAXIMUM_SIZE = 2048;
+
+    private final AlpinePlugin plugin;
+
+    @Getter
+    private final MiniMessage miniMessage;
+
+    private final Cache<String, Component> cache;
+
+    private volatile AlpinePluginConfig config;
+
+    public ComponentCache(@NotNull AlpinePlugin plugin, @NotNull MiniMessage miniMessage, int maximumSize) {
+        this.plugin = plugin;
+        this.miniMessage = miniMessage;
+        this.cache = CacheBuilder.newBuilder()
+                .maximumSize(maximumSize)
+                .recordStats()
+                .build();
+    }
+
+    public ComponentCache(@NotNull AlpinePlugin plugin, @NotNull MiniMessage miniMessage) {
+        this(plugin, miniMessage, DEFAULT_MAXIMUM_SIZE);
+    }
+
+    /**
+     * Deserializes the input, reusing the cached component if present.
+     *
+     * @param input The input string
+     * @return The component
+     */
+    public @NotNull Component deserialize(@NotNull String input) {
+        AlpinePluginConfig config = this.plugin.getAlpineConfig();
+        if (config != this.config) {
+            this.cache.invalidateAll();
+            this.config = config;
+        }
+
+        Component component = this.cache.getIfPresent(input);
+        if (component == null) {
+            component = this.miniMessage.deserialize(input);
+            this.cache.put(input, component);
+        }
+        return component;
+    }
+
+    /**
+     * Deserializes the input with additional tag resolvers.
+     * <p>
+     * The result is only cached if there are no additional resolvers, as the
+     * output otherwise depends on more than the input string.
+     *
+     * @param input    The input string
+     * @param resolver The additional tag resolvers
+     * @return The component
+     */
+    public @NotNull Component deserialize(@NotNull String input, @NotNull TagResolver resolver) {
+        if (resolver == TagResolver.empty()) {
+            return this.deserialize(input);
+        }
+        return this.miniMessage.deserialize(input, resolver);
+    }
+
+    /**
+     * Discards every cached component.
+     */
+    public void invalidate() {
+        this.cache.invalidateAll();
+    }
+
+    /**
+     * Gets the approximate number of cached components.
+     *
+     * @return The number of cached components
+     */
+    public long size() {
+        return this.cache.size();
+    }
+
+    /**
+     * Gets the hit and miss counts of this cache.
+     *
+     * @return The statistics
+     * @see CacheStats#hitRate()
+     */
+    public @NotNull CacheStats getStats() {
+        return this.cache.stats();
+    }
+}
@@ -8,6 +8,8 @@
  */
 package co.crystaldev.alpinecore.util;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import lombok.experimental.UtilityClass;
@@ -63,6 +65,24 @@ public final class Components {
             .put(NamedTextColor.WHITE, ImmutableList.of("white", "&f", "f"))
             .build();
 
+    /** Index of every alias within {@link #STYLE_TO_ALIAS_MAP} to its style */
+    private static final Map<String, StyleBuilderApplicable> ALIAS_TO_STYLE_MAP;
+
+    /** Styles resolved from style strings, which never change once resolved */
+    private static final Cache<String, Style> STYLE_CACHE = CacheBuilder.newBuilder()
+            .maximumSize(512)
+            .build();
+
+    static {
+        Map<String, StyleBuilderApplicable> aliasToStyle = new HashMap<>();
+        STYLE_TO_ALIAS_MAP.forEach((style, aliases) -> {
+            for (String alias : aliases) {
+                aliasToStyle.putIfAbsent(alias, style);
+            }
+        });
+        ALIAS_TO_STYLE_MAP = ImmutableMap.copyOf(aliasToStyle);
+    }
+
     /**
      * Constructs a component that can be used to reset
      * all existing styling.
@@ -263,15 +283,7 @@ public static int length(@Nullable Component component) {
             return stylize(style, component);
         }
 
-        for (StyleBuilderApplicable type : processStyle(style)) {
-            if (type instanceof TextColor) {
-                component = component.color((TextColor) type);
-            }
-            else {
-                component = component.decorate((TextDecoration) type);
-            }
-        }
-        return component;
+        return component.style(component.style().merge(resolveStyle(style)));
     }
 
     /**
@@ -286,33 +298,57 @@ public static int length(@Nullable Component component) {
             return component;
         }
 
-        TextComponent.Builder builder = Component.text();
-        for (StyleBuilderApplicable type : processStyle(style)) {
-            if (type instanceof TextColor) {
-                builder.color((TextColor) type);
-            }
-            else {
-                builder.decorate((TextDecoration) type);
+        return Component.text()
+                .style(resolveStyle(style))
+                .append(component)
+                .build();
+    }
+
+    /**
+     * Resolves the given style string into a {@link Style}.
+     * <p>
+     * Resolved styles are cached, so repeated calls with the same
+     * style string do not parse it again.
+     *
+     * @param style The style.
+     * @return The resolved style.
+     * @since 0.4.10
+     */
+    public static @NotNull Style resolveStyle(@NotNull String style) {
+        Style resolved = STYLE_CACHE.getIfPresent(style);
+        if (resolved == null) {
+            Style.Builder builder = Style.style();
+            for (StyleBuilderApplicable type : processStyle(style)) {
+                builder.apply(type);
             }
+
+            resolved = builder.build();
+            STYLE_CACHE.put(style, resolved);
         }
-        builder.append(component);
-        return builder.asComponent();
+        return resolved;
     }
 
     @ApiStatus.Internal
     public static @NotNull List<StyleBuilderApplicable> processStyle(@NotNull String style) {
         List<StyleBuilderApplicable> styles = new ArrayList<>();
-        for (String component : style.split(" +")) {
-            StyleBuilderApplicable parsedComponent = null;
+        int length = style.length();
+        int start = 0;
+        while (start < length) {
+            // Split the style on spaces
+            int end = style.indexOf(' ', start);
+            if (end == -1) {
+                end = length;
+            }
+            if (end == start) {
+                start++;
+                continue;
+            }
+
+            String component = style.substring(start, end);
+            start = end + 1;
 
             // Match any known style or color
-            for (Map.Entry<StyleBuilderApplicable, List<String>> entry : STYLE_TO_ALIAS_MAP.entrySet()) {
-                List<String> aliases = entry.getValue();
-                if (aliases.contains(component.toLowerCase())) {
-                    parsedComponent = entry.getKey();
-                    break;
-                }
-            }
+            StyleBuilderApplicable parsedComponent = ALIAS_TO_STYLE_MAP.get(component.toLowerCase());
 
             // Attempt to parse a hex string
             if (parsedComponent == null) {
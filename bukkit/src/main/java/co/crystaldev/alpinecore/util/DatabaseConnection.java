@@ -10,6 +10,7 @@
 
 import co.crystaldev.alpinecore.AlpineCore;
 import org.apache.commons.dbcp2.BasicDataSource;
+import org.apache.commons.pool2.impl.GenericObjectPoolConfig;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
@@ -31,16 +32,23 @@ public final class DatabaseConnection {
             "useUnicode=true"
     );
 
+    private static final int DEFAULT_MAX_CONNECTIONS = GenericObjectPoolConfig.DEFAULT_MAX_TOTAL;
+
     private final BasicDataSource dataSource;
 
     public DatabaseConnection(@Nullable String table, @NotNull String url, @NotNull String uid, @NotNull String secret) {
+        this(url + (table == null ? "" : table) + PARAMS, uid, secret, DEFAULT_MAX_CONNECTIONS);
+    }
+
+    public DatabaseConnection(@NotNull String url, @Nullable String uid, @Nullable String secret, int maxConnections) {
         this.dataSource = new BasicDataSource();
-        this.dataSource.setUrl(url + (table == null ? "" : table) + PARAMS);
+        this.dataSource.setUrl(url);
         this.dataSource.setUsername(uid);
         this.dataSource.setPassword(secret);
 
-        this.dataSource.setMinIdle(5);
-        this.dataSource.setMaxIdle(10);
+        this.dataSource.setMaxTotal(maxConnections);
+        this.dataSource.setMinIdle(Math.min(5, maxConnections));
+        this.dataSource.setMaxIdle(Math.min(10, maxConnections));
         this.dataSource.setMaxWait(Duration.of(30L, ChronoUnit.SECONDS));
 
         this.dataSource.setMaxOpenPreparedStatements(100);
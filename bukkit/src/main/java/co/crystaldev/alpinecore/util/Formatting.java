@@ -30,7 +30,17 @@
 @UtilityClass
 public final class Formatting {
 
-    private static final DecimalFormat DECIMAL_FORMAT = new DecimalFormat("#.##");
+    /** DecimalFormat is not thread-safe, and text may be formatted off the main thread */
+    private static final ThreadLocal<DecimalFormat> DECIMAL_FORMAT = ThreadLocal.withInitial(() -> new DecimalFormat("#.##"));
+
+    /** Returned by a placeholder lookup when no value was supplied */
+    private static final Object MISSING = new Object();
+
+    /** Reusable buffer for placeholder replacement, cleared while in use */
+    private static final ThreadLocal<StringBuilder> BUFFER = new ThreadLocal<>();
+
+    /** Buffers which grow past this capacity are not retained */
+    private static final int MAX_BUFFER_CAPACITY = 8192;
 
     /**
      * Formats text with placeholders.
@@ -51,13 +61,7 @@ public final class Formatting {
             return text;
         }
 
-        for (int i = 0; i < (placeholders.length / 2) * 2; i += 2) {
-            String placeholder = (String) placeholders[i];
-            Object rawReplacer = placeholders[i + 1];
-            text = formatPlaceholder(miniMessage, text, rawReplacer, placeholder);
-        }
-
-        return text;
+        return replace(miniMessage, text, null, placeholders, null);
     }
 
     /**
@@ -72,14 +76,11 @@ public final class Formatting {
      */
     public static @NotNull String placeholders(@NotNull AlpinePlugin plugin, @Nullable String text,
                                                @NotNull Object... placeholders) {
-        if (text != null) {
-            HashMap<String, String> variables = plugin.getAlpineConfig().variables;
-            for (Map.Entry<String, String> entry : variables.entrySet()) {
-                text = text.replace("%" + entry.getKey() + "%", entry.getValue());
-            }
+        if (text == null) {
+            return "";
         }
 
-        return placeholders(plugin.getStrictMiniMessage(), text, placeholders);
+        return replace(plugin.getStrictMiniMessage(), text, plugin.getAlpineConfig().variables, placeholders, null);
     }
 
     /**
@@ -114,13 +115,7 @@ public final class Formatting {
             return text;
         }
 
-        for (Map.Entry<String, Object> entry : placeholders.entrySet()) {
-            String placeholder = entry.getKey();
-            Object rawReplacer = entry.getValue();
-            text = formatPlaceholder(miniMessage, text, rawReplacer, placeholder);
-        }
-
-        return text;
+        return replace(miniMessage, text, null, null, placeholders);
     }
 
     /**
@@ -135,14 +130,11 @@ public final class Formatting {
      */
     public static @NotNull String placeholders(@NotNull AlpinePlugin plugin, @Nullable String text,
                                                @NotNull Map<String, Object> placeholders) {
-        if (text != null) {
-            HashMap<String, String> variables = plugin.getAlpineConfig().variables;
-            for (Map.Entry<String, String> entry : variables.entrySet()) {
-                text = text.replace("%" + entry.getKey() + "%", entry.getValue());
-            }
+        if (text == null) {
+            return "";
         }
 
-        return placeholders(plugin.getStrictMiniMessage(), text, placeholders);
+        return replace(plugin.getStrictMiniMessage(), text, plugin.getAlpineConfig().variables, null, placeholders);
     }
 
     /**
@@ -215,27 +207,120 @@ public final class Formatting {
         return placeholders(text, placeholders);
     }
 
-    private static @NotNull String formatPlaceholder(@NotNull MiniMessage miniMessage, @NotNull String text, Object value, String placeholder) {
-        String formattedReplacer;
+    /**
+     * Replaces every placeholder within the text in a single pass.
+     * <p>
+     * Variables take precedence over placeholders and may themselves
+     * contain placeholders. Text without any percent symbols is returned
+     * without allocating.
+     */
+    private static @NotNull String replace(@NotNull MiniMessage miniMessage, @NotNull String text,
+                                           @Nullable Map<String, String> variables, @Nullable Object[] pairs,
+                                           @Nullable Map<String, Object> map) {
+        int index = text.indexOf('%');
+        if (index == -1) {
+            return text;
+        }
+
+        StringBuilder builder = BUFFER.get();
+        if (builder == null) {
+            builder = new StringBuilder(text.length() + 64);
+        }
+        else {
+            // claim the buffer in case a placeholder value formats text itself
+            BUFFER.set(null);
+            builder.setLength(0);
+        }
 
+        try {
+            boolean replaced = appendReplaced(builder, miniMessage, text, index, variables, pairs, map);
+            return replaced ? builder.toString() : text;
+        }
+        finally {
+            if (builder.capacity() <= MAX_BUFFER_CAPACITY) {
+                BUFFER.set(builder);
+            }
+        }
+    }
+
+    private static boolean appendReplaced(@NotNull StringBuilder builder, @NotNull MiniMessage miniMessage,
+                                          @NotNull String text, int index, @Nullable Map<String, String> variables,
+                                          @Nullable Object[] pairs, @Nullable Map<String, Object> map) {
+        boolean replaced = false;
+        int literalStart = 0;
+        while (index != -1) {
+            int end = MessageTemplate.findPlaceholderEnd(text, index);
+            if (end == -1) {
+                index = text.indexOf('%', index + 1);
+                continue;
+            }
+
+            String name = text.substring(index + 1, end);
+            String variable = variables == null ? null : variables.get(name);
+            Object value = variable != null ? null : lookup(name, pairs, map);
+            if (variable == null && value == MISSING) {
+                // the closing symbol may open the next placeholder
+                index = end;
+                continue;
+            }
+
+            builder.append(text, literalStart, index);
+            if (variable == null) {
+                builder.append(formatValue(miniMessage, value));
+            }
+            else {
+                int nested = variable.indexOf('%');
+                if (nested == -1) {
+                    builder.append(variable);
+                }
+                else {
+                    appendReplaced(builder, miniMessage, variable, nested, null, pairs, map);
+                }
+            }
+
+            replaced = true;
+            literalStart = end + 1;
+            index = text.indexOf('%', literalStart);
+        }
+
+        builder.append(text, literalStart, text.length());
+        return replaced;
+    }
+
+    private static @Nullable Object lookup(@NotNull String name, @Nullable Object[] pairs,
+                                           @Nullable Map<String, Object> map) {
+        if (pairs != null) {
+            for (int i = 0; i + 1 < pairs.length; i += 2) {
+                if (name.equals(pairs[i])) {
+                    return pairs[i + 1];
+                }
+            }
+        }
+        else if (map != null) {
+            Object value = map.get(name);
+            if (value != null || map.containsKey(name)) {
+                return value;
+            }
+        }
+        return MISSING;
+    }
+
+    static @NotNull String formatValue(@NotNull MiniMessage miniMessage, Object value) {
         if (value instanceof Float || value instanceof Double) {
-            formattedReplacer = DECIMAL_FORMAT.format(value);
+            return DECIMAL_FORMAT.get().format(value);
         }
         else if (value instanceof Boolean) {
-            formattedReplacer = (Boolean) value ? "True" : "False";
+            return (Boolean) value ? "True" : "False";
         }
         else if (value instanceof Component) {
-            formattedReplacer = miniMessage.serialize(((Component) value).append(Components.reset()));
+            return miniMessage.serialize(((Component) value).append(Components.reset()));
         }
         else if (value instanceof Supplier) {
-            formattedReplacer = ((Supplier<?>) value).get().toString();
+            return ((Supplier<?>) value).get().toString();
         }
         else {
-            formattedReplacer = value.toString();
+            return value.toString();
         }
-
-        text = text.replace("%" + placeholder + "%", formattedReplacer);
-        return text;
     }
 
     /**
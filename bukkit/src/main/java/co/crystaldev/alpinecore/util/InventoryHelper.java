@@ -9,15 +9,11 @@
 package co.crystaldev.alpinecore.util;
 
 import net.kyori.adventure.text.Component;
-import net.kyori.adventure.text.serializer.legacy.LegacyComponentSerializer;
-import org.bukkit.Bukkit;
 import org.bukkit.event.inventory.InventoryType;
 import org.bukkit.inventory.Inventory;
 import org.bukkit.inventory.InventoryHolder;
 import org.jetbrains.annotations.NotNull;
 
-import java.lang.reflect.Method;
-
 /**
  * Utility for creating inventories.
  *
@@ -25,11 +21,6 @@
  */
 public final class InventoryHelper {
 
-    private static final Method BUKKIT_CREATE_CHEST_INVENTORY = ReflectionHelper.findMethod(Bukkit.class, "createInventory",
-            InventoryHolder.class, Integer.class, Component.class);
-    private static final Method BUKKIT_CREATE_VARYING_INVENTORY = ReflectionHelper.findMethod(Bukkit.class, "createInventory",
-            InventoryHolder.class, InventoryType.class, Component.class);
-
     /**
      * Creates a new inventory with the specified parameters.
      *
@@ -39,12 +30,7 @@ public final class InventoryHelper {
      * @return the created inventory
      */
     public static @NotNull Inventory createInventory(@NotNull InventoryHolder holder, int slots, @NotNull Component title) {
-        if (BUKKIT_CREATE_CHEST_INVENTORY != null) {
-            return ReflectionHelper.invokeMethod(Inventory.class, BUKKIT_CREATE_CHEST_INVENTORY, holder, slots, title);
-        }
-        else {
-            return Bukkit.createInventory(holder, slots, LegacyComponentSerializer.legacySection().serialize(title));
-        }
+        return AdventureBridge.createInventory(holder, slots, title);
     }
 
     /**
@@ -56,11 +42,6 @@ public final class InventoryHelper {
      * @return the created inventory
      */
     public static @NotNull Inventory createInventory(@NotNull InventoryHolder holder, @NotNull InventoryType type, @NotNull Component title) {
-        if (BUKKIT_CREATE_VARYING_INVENTORY != null) {
-            return ReflectionHelper.invokeMethod(Inventory.class, BUKKIT_CREATE_VARYING_INVENTORY, holder, type, title);
-        }
-        else {
-            return Bukkit.createInventory(holder, type, LegacyComponentSerializer.legacySection().serialize(title));
-        }
+        return AdventureBridge.createInventory(holder, type, title);
     }
 }
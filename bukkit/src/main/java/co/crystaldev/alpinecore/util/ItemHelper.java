@@ -14,13 +14,11 @@
 import lombok.experimental.UtilityClass;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.format.NamedTextColor;
-import net.kyori.adventure.text.serializer.legacy.LegacyComponentSerializer;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.inventory.meta.ItemMeta;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
@@ -152,18 +150,6 @@ public static boolean isTool(@NotNull ItemStack item) {
 
     // region Meta
 
-    private static final Method ITEM_META_GET_DISPLAY_NAME = ReflectionHelper.findMethod(
-            ItemMeta.class, "displayName");
-
-    private static final Method ITEM_META_SET_DISPLAY_NAME = ReflectionHelper.findMethod(
-            ItemMeta.class, "displayName", Component.class);
-
-    private static final Method ITEM_META_GET_LORE = ReflectionHelper.findMethod(
-            ItemMeta.class, "lore");
-
-    private static final Method ITEM_META_SET_LORE = ReflectionHelper.findMethod(
-            ItemMeta.class, "lore", List.class);
-
     /**
      * Fetches the display name of an {@link ItemStack} in {@link Component} form.
      *
@@ -177,12 +163,8 @@ public static boolean isTool(@NotNull ItemStack item) {
             return LocaleHelper.getTranslation(item);
         }
 
-        if (ITEM_META_GET_DISPLAY_NAME != null) {
-            return ReflectionHelper.invokeMethod(ITEM_META_GET_DISPLAY_NAME, meta);
-        }
-        else {
-            return LegacyComponentSerializer.legacySection().deserialize(meta.getDisplayName());
-        }
+        Component name = AdventureBridge.getDisplayName(meta);
+        return name == null ? LocaleHelper.getTranslation(item) : name;
     }
 
     /**
@@ -198,15 +180,23 @@ public static void setDisplayName(@NotNull ItemStack item, @NotNull Component na
             return;
         }
 
-        if (ITEM_META_SET_DISPLAY_NAME != null) {
-            ReflectionHelper.invokeMethod(ITEM_META_SET_DISPLAY_NAME, meta, name);
-        }
-        else {
-            String serialized = LegacyComponentSerializer.legacySection().serialize(name);
-            meta.setDisplayName(serialized);
+        setDisplayName(meta, name);
+        item.setItemMeta(meta);
+    }
+
+    /**
+     * Sets the display name on an {@link ItemMeta}.
+     *
+     * @param meta The item meta.
+     * @param name The name.
+     * @since 0.4.10
+     */
+    public static void setDisplayName(@Nullable ItemMeta meta, @NotNull Component name) {
+        if (meta == null) {
+            return;
         }
 
-        item.setItemMeta(meta);
+        AdventureBridge.setDisplayName(meta, name);
     }
 
     /**
@@ -230,15 +220,8 @@ public static void setDisplayName(@NotNull ItemStack item, @NotNull Component na
             return Collections.emptyList();
         }
 
-        if (ITEM_META_GET_LORE != null) {
-            return ReflectionHelper.invokeMethod(ITEM_META_GET_LORE, meta);
-        }
-        else {
-            return meta.getLore()
-                    .stream()
-                    .map(LegacyComponentSerializer.legacySection()::deserialize)
-                    .collect(Collectors.toList());
-        }
+        List<Component> lore = AdventureBridge.getLore(meta);
+        return lore == null ? Collections.emptyList() : lore;
     }
 
     /**
@@ -298,15 +281,7 @@ public static void setLore(@Nullable ItemMeta meta, @NotNull List<Component> lor
         // since the lore does not allow newlines, we must split at each newline
         List<Component> processedLore = lore.isEmpty() ? lore : Components.split(Components.joinNewLines(lore), "\n");
 
-        if (ITEM_META_SET_LORE != null) {
-            ReflectionHelper.invokeMethod(ITEM_META_SET_LORE, meta, processedLore);
-        }
-        else {
-            List<String> serialized = processedLore.stream()
-                    .map(LegacyComponentSerializer.legacySection()::serialize)
-                    .collect(Collectors.toList());
-            meta.setLore(serialized);
-        }
+        AdventureBridge.setLore(meta, processedLore);
     }
 
     /**
@@ -0,0 +1,152 @@
+/*
+ * This file is part of AlpineCore - https://github.com/alpine-network/alpine-core
+ * Copyright (C) 2025 Crystal Development, LLC
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+package co.crystaldev.alpinecore.util;
+
+import lombok.Getter;
+import net.kyori.adventure.text.Component;
+import org.bukkit.enchantments.Enchantment;
+import org.bukkit.inventory.ItemFlag;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.meta.ItemMeta;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Applies several changes to the {@link ItemMeta} of an {@link ItemStack}
+ * in a single pass.
+ * <p>
+ * Every call to {@link ItemStack#getItemMeta()} and {@link ItemStack#setItemMeta(ItemMeta)}
+ * copies the entire meta. An editor obtains the meta once, and writes it back
+ * once when {@link #commit() committed}.
+ * <p>
+ * Example usage:
+ * <pre>{@code
+ * ItemStack stack = ItemMetaEditor.edit(new ItemStack(Material.STICK))
+ *         .displayName(Component.text("Stick"))
+ *         .enchant(Enchantment.LURE, 1)
+ *         .flags(ItemFlag.HIDE_ENCHANTS)
+ *         .commit();
+ * }</pre>
+ *
+ * @see ItemMetaFunction
+ * @since 0.4.10
+ */
+public final class ItemMetaEditor {
+
+    @Getter
+    private final ItemStack stack;
+
+    /** The meta being edited, or null if the item cannot hold meta */
+    @Getter
+    private final ItemMeta meta;
+
+    private ItemMetaEditor(@NotNull ItemStack stack) {
+        this.stack = stack;
+        this.meta = stack.getItemMeta();
+    }
+
+    /**
+     * Begins editing the meta of the given item.
+     *
+     * @param stack The item, which is modified once committed
+     * @return The editor
+     */
+    public static @NotNull ItemMetaEditor edit(@NotNull ItemStack stack) {
+        return new ItemMetaEditor(stack);
+    }
+
+    @Contract("_ -> this")
+    public @NotNull ItemMetaEditor displayName(@NotNull Component name) {
+        ItemHelper.setDisplayName(this.meta, name);
+        return this;
+    }
+
+    @Contract("_ -> this")
+    public @NotNull ItemMetaEditor lore(@NotNull List<Component> lore) {
+        ItemHelper.setLore(this.meta, lore);
+        return this;
+    }
+
+    /**
+     * Adds an enchantment, ignoring the level restrictions of the enchantment.
+     */
+    @Contract("_, _ -> this")
+    public @NotNull ItemMetaEditor enchant(@NotNull Enchantment enchantment, int level) {
+        if (this.meta != null) {
+            this.meta.addEnchant(enchantment, level, true);
+        }
+        return this;
+    }
+
+    @Contract("_ -> this")
+    public @NotNull ItemMetaEditor flags(@NotNull ItemFlag... flags) {
+        if (this.meta != null) {
+            this.meta.addItemFlags(flags);
+        }
+        return this;
+    }
+
+    /**
+     * Applies arbitrary changes to the meta, if the item can hold meta.
+     */
+    @Contract("_ -> this")
+    public @NotNull ItemMetaEditor meta(@NotNull Consumer<@NotNull ItemMeta> consumer) {
+        if (this.meta != null) {
+            consumer.accept(this.meta);
+        }
+        return this;
+    }
+
+    /**
+     * Applies arbitrary changes to the meta, if it is of the given type.
+     */
+    @Contract("_, _ -> this")
+    public <T extends ItemMeta> @NotNull ItemMetaEditor meta(@NotNull Class<T> type, @NotNull Consumer<@NotNull T> consumer) {
+        if (type.isInstance(this.meta)) {
+            consumer.accept(type.cast(this.meta));
+        }
+        return this;
+    }
+
+    /**
+     * Writes the edited meta back to the item.
+     *
+     * @return The item
+     */
+    public @NotNull ItemStack commit() {
+        if (this.meta != null) {
+            this.stack.setItemMeta(this.meta);
+        }
+        return this.stack;
+    }
+
+    /**
+     * Writes the edited meta back to the item, then applies a modification hook.
+     * <p>
+     * An {@link ItemMetaFunction} instead joins this edit before it is
+     * committed, so the meta is not copied again.
+     *
+     * @param function The hook
+     * @return The committed and modified item
+     */
+    public @NotNull ItemStack commit(@Nullable Function<ItemStack, ItemStack> function) {
+        if (function instanceof ItemMetaFunction) {
+            ((ItemMetaFunction) function).accept(this);
+            return this.commit();
+        }
+
+        ItemStack stack = this.commit();
+        return function == null ? stack : function.apply(stack);
+    }
+}
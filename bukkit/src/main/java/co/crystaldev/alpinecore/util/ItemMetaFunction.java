@@ -0,0 +1,52 @@
+/*
+ * This file is part of AlpineCore - https://github.com/alpine-network/alpine-core
+ * Copyright (C) 2025 Crystal Development, LLC
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+package co.crystaldev.alpinecore.util;
+
+import org.bukkit.inventory.ItemStack;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * An item modification hook which edits the meta of an item.
+ * <p>
+ * When passed to a {@link co.crystaldev.alpinecore.framework.config.object.item.ConfigItem}
+ * build method, the hook joins the edit of the item being built instead of
+ * copying its meta again. It may otherwise be used as a regular function.
+ * <p>
+ * Example usage:
+ * <pre>{@code
+ * ItemStack stack = item.build(plugin, ItemMetaFunction.of(editor -> editor
+ *         .flags(ItemFlag.HIDE_ATTRIBUTES)));
+ * }</pre>
+ *
+ * @since 0.4.10
+ */
+@FunctionalInterface
+public interface ItemMetaFunction extends Function<ItemStack, ItemStack> {
+
+    /**
+     * Applies changes to an item being edited.
+     *
+     * @param editor The editor
+     */
+    void accept(@NotNull ItemMetaEditor editor);
+
+    @Override
+    default @NotNull ItemStack apply(@NotNull ItemStack stack) {
+        ItemMetaEditor editor = ItemMetaEditor.edit(stack);
+        this.accept(editor);
+        return editor.commit();
+    }
+
+    static @NotNull ItemMetaFunction of(@NotNull Consumer<@NotNull ItemMetaEditor> consumer) {
+        return consumer::accept;
+    }
+}
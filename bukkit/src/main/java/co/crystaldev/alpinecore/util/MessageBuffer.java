@@ -0,0 +1,255 @@
+/*
+ * This file is part of AlpineCore - https://github.com/alpine-network/alpine-core
+ * Copyright (C) 2025 Crystal Development, LLC
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+package co.crystaldev.alpinecore.util;
+
+import co.crystaldev.alpinecore.AlpinePlugin;
+import co.crystaldev.alpinecore.event.ServerTickEvent;
+import net.kyori.adventure.audience.Audience;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.title.Title;
+import org.bukkit.Bukkit;
+import org.bukkit.command.CommandSender;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.HandlerList;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerQuitEvent;
+import org.bukkit.event.server.PluginDisableEvent;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Buffers messages sent within a tick and delivers them together at the
+ * start of the next tick.
+ * <p>
+ * Every chat line queued for a recipient is joined into a single message, and
+ * only the most recent action bar and title are shown, as any earlier ones
+ * would be replaced immediately. This reduces the number of packets sent
+ * when many listeners message the same player in quick succession.
+ * <p>
+ * Buffered messages are flushed on the next {@link ServerTickEvent}, after
+ * every other listener of that event has run. The event is fired by a
+ * scheduled task, which the server runs at the start of each tick, so
+ * messages are delivered a tick after they were queued.
+ * <p>
+ * Each buffer registers its own listener, so a buffer should be created
+ * once and shared, and {@link #close() closed} once it is no longer needed.
+ * <p>
+ * Example usage:
+ * <pre>{@code
+ * AlpinePlugin plugin;
+ * MessageBuffer buffer = MessageBuffer.create(plugin);
+ *
+ * public void onEvent(Player player) {
+ *     buffer.send(player, Component.text("Hello"));
+ *     buffer.actionBar(player, Component.text("Superseded"));
+ *     buffer.actionBar(player, Component.text("Shown"));
+ * }
+ * }</pre>
+ *
+ * @see Messaging
+ * @since 0.4.10
+ */
+public final class MessageBuffer {
+
+    private final AlpinePlugin plugin;
+
+    private final FlushListener listener = new FlushListener();
+
+    private Map<CommandSender, PendingMessages> pending = new LinkedHashMap<>();
+
+    private boolean closed;
+
+    private MessageBuffer(@NotNull AlpinePlugin plugin) {
+        this.plugin = plugin;
+        Bukkit.getPluginManager().registerEvents(this.listener, plugin);
+    }
+
+    /**
+     * Queues a message for the specified CommandSender.
+     *
+     * @param sender      the recipient of the message
+     * @param messageType the type of the message
+     * @param component   the message to send
+     */
+    public void send(@NotNull CommandSender sender, @NotNull MessageType messageType, @Nullable Component component) {
+        if (component == null) {
+            return;
+        }
+
+        switch (messageType) {
+            case CHAT:
+                this.send(sender, component);
+                break;
+
+            case ACTION_BAR:
+                this.actionBar(sender, component);
+        }
+    }
+
+    /**
+     * Queues a chat message for the specified CommandSender.
+     *
+     * @param sender    the recipient of the message
+     * @param component the message to send
+     */
+    public synchronized void send(@NotNull CommandSender sender, @Nullable Component component) {
+        if (component != null) {
+            this.pending(sender).chat.add(component);
+        }
+    }
+
+    /**
+     * Queues an action bar message for the specified CommandSender,
+     * replacing any action bar queued since the last flush.
+     *
+     * @param sender    the recipient of the action bar message
+     * @param component the message to send
+     */
+    public synchronized void actionBar(@NotNull CommandSender sender, @NotNull Component component) {
+        this.pending(sender).actionBar = component;
+    }
+
+    /**
+     * Queues a title for the specified CommandSender,
+     * replacing any title queued since the last flush.
+     *
+     * @param sender the recipient of the title
+     * @param title  the title to show
+     */
+    public synchronized void title(@NotNull CommandSender sender, @NotNull Title title) {
+        this.pending(sender).title = title;
+    }
+
+    /**
+     * Queues a title and subtitle for the specified CommandSender,
+     * replacing any title queued since the last flush.
+     *
+     * @param sender   the recipient of the title and subtitle
+     * @param title    the title component
+     * @param subtitle the subtitle component
+     */
+    public void title(@NotNull CommandSender sender, @NotNull Component title, @NotNull Component subtitle) {
+        this.title(sender, Title.title(title, subtitle));
+    }
+
+    /**
+     * Immediately delivers every buffered message.
+     */
+    public void flush() {
+        Map<CommandSender, PendingMessages> pending;
+        synchronized (this) {
+            if (this.pending.isEmpty()) {
+                return;
+            }
+
+            pending = this.pending;
+            this.pending = new LinkedHashMap<>();
+        }
+
+        for (Map.Entry<CommandSender, PendingMessages> entry : pending.entrySet()) {
+            try {
+                entry.getValue().deliver(Messaging.wrap(entry.getKey()));
+            }
+            catch (Exception ex) {
+                this.plugin.log("Unable to deliver buffered messages to " + entry.getKey().getName(), ex);
+            }
+        }
+    }
+
+    /**
+     * Immediately delivers every buffered message, then stops listening for ticks.
+     * Messages queued to a closed buffer are no longer delivered.
+     */
+    public void close() {
+        synchronized (this) {
+            if (this.closed) {
+                return;
+            }
+            this.closed = true;
+        }
+
+        this.flush();
+        HandlerList.unregisterAll(this.listener);
+    }
+
+    /**
+     * Discards every message buffered for the specified CommandSender.
+     *
+     * @param sender the recipient
+     */
+    public synchronized void discard(@NotNull CommandSender sender) {
+        this.pending.remove(sender);
+    }
+
+    private @NotNull PendingMessages pending(@NotNull CommandSender sender) {
+        if (this.closed) {
+            // nothing would flush the message
+            return new PendingMessages();
+        }
+        return this.pending.computeIfAbsent(sender, k -> new PendingMessages());
+    }
+
+    /**
+     * Creates a new MessageBuffer for the given plugin.
+     *
+     * @param plugin the plugin
+     * @return a new MessageBuffer instance
+     */
+    public static @NotNull MessageBuffer create(@NotNull AlpinePlugin plugin) {
+        return new MessageBuffer(plugin);
+    }
+
+    private static final class PendingMessages {
+        private final List<Component> chat = new ArrayList<>(4);
+        private Component actionBar;
+        private Title title;
+
+        void deliver(@NotNull Audience audience) {
+            if (this.chat.size() == 1) {
+                audience.sendMessage(this.chat.get(0));
+            }
+            else if (!this.chat.isEmpty()) {
+                audience.sendMessage(Components.joinNewLines(this.chat));
+            }
+
+            if (this.actionBar != null) {
+                audience.sendActionBar(this.actionBar);
+            }
+
+            if (this.title != null) {
+                audience.showTitle(this.title);
+            }
+        }
+    }
+
+    private final class FlushListener implements Listener {
+        @EventHandler(priority = EventPriority.MONITOR)
+        public void onServerTick(ServerTickEvent event) {
+            MessageBuffer.this.flush();
+        }
+
+        @EventHandler
+        public void onPlayerQuit(PlayerQuitEvent event) {
+            MessageBuffer.this.discard(event.getPlayer());
+        }
+
+        @EventHandler
+        public void onPluginDisable(PluginDisableEvent event) {
+            if (event.getPlugin() == MessageBuffer.this.plugin) {
+                MessageBuffer.this.close();
+            }
+        }
+    }
+}
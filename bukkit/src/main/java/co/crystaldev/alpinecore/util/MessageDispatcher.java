@@ -10,16 +10,15 @@
 
 import co.crystaldev.alpinecore.AlpinePlugin;
 import co.crystaldev.alpinecore.framework.config.object.ConfigMessage;
-import com.google.common.cache.Cache;
-import com.google.common.cache.CacheBuilder;
+import co.crystaldev.alpinecore.integration.PlaceholderSnapshot;
 import net.kyori.adventure.text.Component;
 import org.bukkit.OfflinePlayer;
 import org.bukkit.command.CommandSender;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.Collection;
 import java.util.Map;
-import java.util.Objects;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -29,48 +28,48 @@ public final class MessageDispatcher {
 
     private final AlpinePlugin plugin;
 
-    private final long rateLimitDuration;
-
-    // Cache<Component/Player hash, expire time>
-    private final Cache<Long, Long> rateLimited;
+    // Recently sent recipient and message pairs
+    private final MessageRateLimiter rateLimiter;
 
     private MessageDispatcher(@NotNull AlpinePlugin plugin, long rateLimitDuration) {
         this.plugin = plugin;
-        this.rateLimitDuration = rateLimitDuration;
+        this.rateLimiter = rateLimitDuration > 0 ? new MessageRateLimiter(rateLimitDuration) : null;
+    }
 
-        if (this.rateLimitDuration > 0) {
-            this.rateLimited = CacheBuilder.newBuilder()
-                    .expireAfterWrite(this.rateLimitDuration, TimeUnit.MILLISECONDS)
-                    .build();
+    /**
+     * Sends a message to the specified CommandSender, applying rate-limiting if enabled.
+     * <p>
+     * The message is identified by the hash of the component, which requires
+     * walking the entire component. Use {@link #send(CommandSender, Component, long)}
+     * to supply a cheaper identity.
+     *
+     * @param sender    the recipient of the message
+     * @param component the message to send
+     */
+    public void send(@NotNull CommandSender sender, @NotNull Component component) {
+        if (this.rateLimiter != null) {
+            this.send(sender, component, component.hashCode());
         }
         else {
-            this.rateLimited = null;
+            Messaging.send(sender, component);
         }
     }
 
     /**
      * Sends a message to the specified CommandSender, applying rate-limiting if enabled.
+     * <p>
+     * Messages sent with the same identity to the same recipient are
+     * rate-limited together, regardless of their content.
      *
      * @param sender    the recipient of the message
      * @param component the message to send
+     * @param messageId the identity of the message
      */
-    public void send(@NotNull CommandSender sender, @NotNull Component component) {
-        if (this.rateLimited != null) {
-            try {
-                long hash = Objects.hash(sender.getName().hashCode(), component.hashCode());
-                long now = System.currentTimeMillis();
-
-                // Check if the message was recently sent
-                Long expireTime = this.rateLimited.getIfPresent(hash);
-                if (expireTime != null && now < expireTime) {
-                    return;
-                }
-
-                // Store a new expiration time
-                this.rateLimited.put(hash, now + this.rateLimitDuration);
-            }
-            catch (Exception ex) {
-                this.plugin.log("Unable to deliver rate-limited message to " + sender.getName(), ex);
+    public void send(@NotNull CommandSender sender, @NotNull Component component, long messageId) {
+        if (this.rateLimiter != null) {
+            long key = MessageRateLimiter.key(sender.getName().hashCode(), messageId);
+            if (!this.rateLimiter.tryAcquire(key, System.currentTimeMillis())) {
+                return;
             }
         }
 
@@ -155,6 +154,54 @@ public void send(
         this.send(sender, message.build(this.plugin, placeholders));
     }
 
+    /**
+     * Broadcasts a formatted message to a collection of recipients.
+     * <p>
+     * Recipients whose PlaceholderAPI placeholders resolve to the same values
+     * share a single render of the message. Broadcasts are not rate-limited.
+     * <p>
+     * This must be called on the main thread.
+     *
+     * @param recipients   the recipients of the message
+     * @param message      the configured message template
+     * @param placeholders the placeholders for formatting the message
+     */
+    public void broadcast(
+            @NotNull Collection<? extends CommandSender> recipients,
+            @NotNull ConfigMessage message,
+            @NotNull Object... placeholders
+    ) {
+        Messaging.broadcast(recipients, sender -> {
+            return sender instanceof OfflinePlayer
+                    ? message.snapshot(this.plugin, (OfflinePlayer) sender, null)
+                    : PlaceholderSnapshot.EMPTY;
+        }, snapshot -> message.buildFromSnapshot(this.plugin, snapshot, placeholders));
+    }
+
+    /**
+     * Broadcasts a formatted message to a collection of recipients.
+     * <p>
+     * Recipients whose PlaceholderAPI placeholders resolve to the same values
+     * share a single render of the message. Broadcasts are not rate-limited.
+     * <p>
+     * This must be called on the main thread.
+     *
+     * @param recipients   the recipients of the message
+     * @param message      the configured message template
+     * @param placeholders a map of placeholder keys and their replacements
+     */
+    public void broadcast(
+            @NotNull Collection<? extends CommandSender> recipients,
+            @NotNull ConfigMessage message,
+            @NotNull Map<String, Object> placeholders
+    ) {
+        Messaging.broadcast(recipients, sender -> {
+            return sender instanceof OfflinePlayer
+                    ? message.snapshot(this.plugin, (OfflinePlayer) sender, null)
+                    : PlaceholderSnapshot.EMPTY;
+        }, snapshot -> message.buildFromSnapshot(this.plugin, snapshot, placeholders));
+    }
+
     /**
      * Creates a new MessageDispatcher instance with no rate-limiting.
      *
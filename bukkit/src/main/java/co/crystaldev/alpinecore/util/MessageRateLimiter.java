@@ -0,0 +1,197 @@
+/*
+ * This file is part of AlpineCore - https://github.com/alpine-network/alpine-core
+ * Copyright (C) 2025 Crystal Development, LLC
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+package co.crystaldev.alpinecore.util;
+
+import java.util.Arrays;
+
+/**
+ * Tracks recently sent messages without allocating per message.
+ * <p>
+ * Message keys are held in an open-addressing table of primitive longs with
+ * linear probing. Each key is also recorded in a timing wheel slot matching
+ * its expiry, and slots are swept as time passes, so expired keys are removed
+ * without scanning the table.
+ *
+ * @since 0.4.10
+ */
+final class MessageRateLimiter {
+
+    private static final int WHEEL_SLOTS = 64;
+
+    private static final int INITIAL_CAPACITY = 256;
+
+    private final long duration;
+
+    private final long slotWidth;
+
+    private long[] keys = new long[INITIAL_CAPACITY];
+
+    /** Expiry time of each key, where zero marks an empty bucket */
+    private long[] expiries = new long[INITIAL_CAPACITY];
+
+    private int size;
+
+    private final long[][] wheel = new long[WHEEL_SLOTS][];
+
+    private final int[] wheelSizes = new int[WHEEL_SLOTS];
+
+    /** The last tick whose wheel slot has been swept */
+    private long sweptTick = -1L;
+
+    MessageRateLimiter(long duration) {
+        this.duration = duration;
+        this.slotWidth = Math.max(1L, (duration + WHEEL_SLOTS - 2) / (WHEEL_SLOTS - 1));
+        for (int i = 0; i < WHEEL_SLOTS; i++) {
+            this.wheel[i] = new long[8];
+        }
+    }
+
+    /**
+     * Attempts to record a message as sent.
+     *
+     * @param key the message key
+     * @param now the current time in milliseconds
+     * @return true if the message may be sent, false if it was sent too recently
+     */
+    synchronized boolean tryAcquire(long key, long now) {
+        this.sweep(now);
+
+        int mask = this.keys.length - 1;
+        int index = mix(key) & mask;
+        while (this.expiries[index] != 0L) {
+            if (this.keys[index] == key) {
+                if (now < this.expiries[index]) {
+                    return false;
+                }
+
+                this.expiries[index] = this.expire(key, now);
+                return true;
+            }
+            index = (index + 1) & mask;
+        }
+
+        this.keys[index] = key;
+        this.expiries[index] = this.expire(key, now);
+        if (++this.size > this.keys.length >> 1) {
+            this.resize(this.keys.length << 1);
+        }
+        return true;
+    }
+
+    /**
+     * Creates a key identifying a message sent to a recipient.
+     *
+     * @param recipient the hash of the recipient
+     * @param message   the identity of the message
+     * @return the key
+     */
+    static long key(int recipient, long message) {
+        return recipient * 0x9E3779B97F4A7C15L + message;
+    }
+
+    private long expire(long key, long now) {
+        long expiry = Math.max(1L, now + this.duration);
+
+        int slot = (int) ((expiry / this.slotWidth) & (WHEEL_SLOTS - 1));
+        long[] entries = this.wheel[slot];
+        int count = this.wheelSizes[slot];
+        if (count == entries.length) {
+            this.wheel[slot] = entries = Arrays.copyOf(entries, count << 1);
+        }
+        entries[count] = key;
+        this.wheelSizes[slot] = count + 1;
+
+        return expiry;
+    }
+
+    private void sweep(long now) {
+        long tick = now / this.slotWidth;
+        if (this.sweptTick < 0L) {
+            this.sweptTick = tick - 1L;
+            return;
+        }
+
+        // only sweep slots whose entire time range has passed
+        long from = Math.max(this.sweptTick + 1L, tick - WHEEL_SLOTS);
+        for (long t = from; t < tick; t++) {
+            int slot = (int) (t & (WHEEL_SLOTS - 1));
+            long[] entries = this.wheel[slot];
+            for (int i = 0, count = this.wheelSizes[slot]; i < count; i++) {
+                this.removeIfExpired(entries[i], now);
+            }
+            this.wheelSizes[slot] = 0;
+        }
+        this.sweptTick = Math.max(this.sweptTick, tick - 1L);
+    }
+
+    private void removeIfExpired(long key, long now) {
+        int mask = this.keys.length - 1;
+        int index = mix(key) & mask;
+        while (this.expiries[index] != 0L) {
+            if (this.keys[index] == key) {
+                // the key was sent again since this entry was recorded
+                if (now < this.expiries[index]) {
+                    return;
+                }
+
+                this.removeAt(index);
+                return;
+            }
+            index = (index + 1) & mask;
+        }
+    }
+
+    private void removeAt(int index) {
+        int mask = this.keys.length - 1;
+        this.size--;
+
+        // shift back following entries so probe sequences stay unbroken
+        int gap = index;
+        int next = (gap + 1) & mask;
+        while (this.expiries[next] != 0L) {
+            int home = mix(this.keys[next]) & mask;
+            if (((next - home) & mask) >= ((next - gap) & mask)) {
+                this.keys[gap] = this.keys[next];
+                this.expiries[gap] = this.expiries[next];
+                gap = next;
+            }
+            next = (next + 1) & mask;
+        }
+        this.keys[gap] = 0L;
+        this.expiries[gap] = 0L;
+    }
+
+    private void resize(int capacity) {
+        long[] oldKeys = this.keys;
+        long[] oldExpiries = this.expiries;
+        this.keys = new long[capacity];
+        this.expiries = new long[capacity];
+
+        int mask = capacity - 1;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldExpiries[i] == 0L) {
+                continue;
+            }
+
+            int index = mix(oldKeys[i]) & mask;
+            while (this.expiries[index] != 0L) {
+                index = (index + 1) & mask;
+            }
+            this.keys[index] = oldKeys[i];
+            this.expiries[index] = oldExpiries[i];
+        }
+    }
+
+    private static int mix(long key) {
+        key ^= key >>> 33;
+        key *= 0xFF51AFD7ED558CCDL;
+        key ^= key >>> 33;
+        return (int) key;
+    }
+}
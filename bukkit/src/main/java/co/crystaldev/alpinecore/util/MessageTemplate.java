@@ -0,0 +1,281 @@
+/*
+ * This file is part of AlpineCore - https://github.com/alpine-network/alpine-core
+ * Copyright (C) 2025 Crystal Development, LLC
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+package co.crystaldev.alpinecore.util;
+
+import net.kyori.adventure.text.ComponentLike;
+import net.kyori.adventure.text.minimessage.MiniMessage;
+import net.kyori.adventure.text.minimessage.tag.resolver.Placeholder;
+import net.kyori.adventure.text.minimessage.tag.resolver.TagResolver;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A precompiled string of text containing placeholders.
+ * <p>
+ * The text is split once into literal segments and placeholder
+ * slots, with any global variables already substituted into the
+ * literals. Rendering then writes each segment into a single
+ * buffer without scanning or copying the text again.
+ * <p>
+ * Placeholders are denoted with percent symbols on either side and
+ * may not contain whitespace. A slot without a supplied value is
+ * rendered unchanged, so it may still be resolved later on, for
+ * example by PlaceholderAPI.
+ * <p>
+ * A placeholder without a value does not consume its closing percent
+ * symbol, which may instead open the next placeholder, so in {@code a%b%c%}
+ * the placeholder {@code %c%} is still replaced if only {@code c} is supplied.
+ * Templates where this can happen are rendered by scanning the text whenever
+ * such a slot has no value, in the same way as {@link Formatting#placeholders},
+ * in which case component values are always serialized into the text.
+ * <p>
+ * When rendered with a {@link TagResolver.Builder}, component values are
+ * not serialized into the text. Their slot is instead written as a tag
+ * which resolves to the component itself once the text is deserialized,
+ * so the component is spliced in as-is rather than re-parsed.
+ *
+ * @see Formatting#placeholders(MiniMessage, String, Object...)
+ * @since 0.4.10
+ */
+public final class MessageTemplate {
+
+    private static final String[] NO_SLOTS = new String[0];
+
+    private static final boolean[] NO_OVERLAPS = new boolean[0];
+
+    private static final String SLOT_TAG_PREFIX = "alpine-slot-";
+
+    /** Literal segments, one more than there are slots */
+    private final String[] literals;
+
+    /** Placeholder names, each placed between two literals */
+    private final String[] slots;
+
+    /** Whether the closing symbol of each slot may also open another placeholder */
+    private final boolean[] overlaps;
+
+    /** The compiled text, scanned when an overlapping slot has no value */
+    private final String text;
+
+    /** The combined length of every literal */
+    private final int literalLength;
+
+    private MessageTemplate(@NotNull String text, @NotNull String[] literals, @NotNull String[] slots,
+                            @NotNull boolean[] overlaps) {
+        this.text = text;
+        this.literals = literals;
+        this.slots = slots;
+        this.overlaps = overlaps;
+
+        int length = 0;
+        for (String literal : literals) {
+            length += literal.length();
+        }
+        this.literalLength = length;
+    }
+
+    /**
+     * Compiles text into a template.
+     *
+     * @param text      The text
+     * @param variables The variables substituted into the text before it is compiled
+     * @return The template
+     */
+    public static @NotNull MessageTemplate compile(@NotNull String text, @NotNull Map<String, String> variables) {
+        if (!variables.isEmpty() && text.indexOf('%') != -1) {
+            for (Map.Entry<String, String> entry : variables.entrySet()) {
+                text = text.replace("%" + entry.getKey() + "%", entry.getValue());
+            }
+        }
+
+        return compile(text);
+    }
+
+    /**
+     * Compiles text into a template.
+     *
+     * @param text The text
+     * @return The template
+     */
+    public static @NotNull MessageTemplate compile(@NotNull String text) {
+        if (text.indexOf('%') == -1) {
+            return new MessageTemplate(text, new String[] { text }, NO_SLOTS, NO_OVERLAPS);
+        }
+
+        List<String> literals = new ArrayList<>();
+        List<String> slots = new ArrayList<>();
+        List<Boolean> overlaps = new ArrayList<>();
+        int literalStart = 0;
+        int index = 0;
+        while ((index = text.indexOf('%', index)) != -1) {
+            int end = findPlaceholderEnd(text, index);
+            if (end == -1) {
+                index++;
+                continue;
+            }
+
+            literals.add(text.substring(literalStart, index));
+            slots.add(text.substring(index + 1, end));
+            overlaps.add(findPlaceholderEnd(text, end) != -1);
+            literalStart = index = end + 1;
+        }
+        literals.add(text.substring(literalStart));
+
+        boolean[] overlapping = new boolean[overlaps.size()];
+        for (int i = 0; i < overlapping.length; i++) {
+            overlapping[i] = overlaps.get(i);
+        }
+        return new MessageTemplate(text, literals.toArray(new String[0]), slots.toArray(new String[0]), overlapping);
+    }
+
+    /**
+     * Checks whether this template contains any placeholder slots.
+     *
+     * @return Whether there are placeholder slots
+     */
+    public boolean hasPlaceholders() {
+        return this.slots.length != 0;
+    }
+
+    /**
+     * Renders this template with placeholders.
+     *
+     * @param miniMessage  The {@link MiniMessage} instance used to serialize component values
+     * @param placeholders The placeholders, as alternating names and values
+     * @return The rendered text
+     */
+    public @NotNull String render(@NotNull MiniMessage miniMessage, @NotNull Object... placeholders) {
+        return this.render(miniMessage, null, placeholders);
+    }
+
+    /**
+     * Renders this template with placeholders, writing component values as tags
+     * which are added to the given resolver builder.
+     * <p>
+     * The rendered text must be deserialized with the built resolver.
+     *
+     * @param miniMessage  The {@link MiniMessage} instance used to serialize component values
+     * @param components   The builder receiving component tags, or null to serialize components
+     * @param placeholders The placeholders, as alternating names and values
+     * @return The rendered text
+     */
+    public @NotNull String render(@NotNull MiniMessage miniMessage, @Nullable TagResolver.Builder components,
+                                  @NotNull Object... placeholders) {
+        if (this.slots.length == 0) {
+            return this.literals[0];
+        }
+
+        int pairs = placeholders == null ? 0 : placeholders.length / 2;
+        StringBuilder builder = new StringBuilder(this.literalLength + this.slots.length * 16);
+        for (int i = 0; i < this.slots.length; i++) {
+            builder.append(this.literals[i]);
+
+            String slot = this.slots[i];
+            Object value = null;
+            boolean found = false;
+            for (int j = 0; j < pairs; j++) {
+                if (slot.equals(placeholders[j * 2])) {
+                    value = placeholders[j * 2 + 1];
+                    found = true;
+                    break;
+                }
+            }
+
+            if (!found && this.overlaps[i]) {
+                return Formatting.placeholders(miniMessage, this.text, placeholders);
+            }
+            this.appendSlot(builder, miniMessage, components, i, found, value);
+        }
+
+        return builder.append(this.literals[this.slots.length]).toString();
+    }
+
+    /**
+     * Renders this template with placeholders.
+     *
+     * @param miniMessage  The {@link MiniMessage} instance used to serialize component values
+     * @param placeholders The placeholders
+     * @return The rendered text
+     */
+    public @NotNull String render(@NotNull MiniMessage miniMessage, @NotNull Map<String, Object> placeholders) {
+        return this.render(miniMessage, null, placeholders);
+    }
+
+    /**
+     * Renders this template with placeholders, writing component values as tags
+     * which are added to the given resolver builder.
+     * <p>
+     * The rendered text must be deserialized with the built resolver.
+     *
+     * @param miniMessage  The {@link MiniMessage} instance used to serialize component values
+     * @param components   The builder receiving component tags, or null to serialize components
+     * @param placeholders The placeholders
+     * @return The rendered text
+     */
+    public @NotNull String render(@NotNull MiniMessage miniMessage, @Nullable TagResolver.Builder components,
+                                  @NotNull Map<String, Object> placeholders) {
+        if (this.slots.length == 0) {
+            return this.literals[0];
+        }
+
+        StringBuilder builder = new StringBuilder(this.literalLength + this.slots.length * 16);
+        for (int i = 0; i < this.slots.length; i++) {
+            builder.append(this.literals[i]);
+
+            String slot = this.slots[i];
+            Object value = placeholders.get(slot);
+            boolean found = value != null || placeholders.containsKey(slot);
+            if (!found && this.overlaps[i]) {
+                return Formatting.placeholders(miniMessage, this.text, placeholders);
+            }
+            this.appendSlot(builder, miniMessage, components, i, found, value);
+        }
+
+        return builder.append(this.literals[this.slots.length]).toString();
+    }
+
+    private void appendSlot(@NotNull StringBuilder builder, @NotNull MiniMessage miniMessage,
+                            @Nullable TagResolver.Builder components, int slot, boolean found, @Nullable Object value) {
+        if (!found) {
+            builder.append('%').append(this.slots[slot]).append('%');
+        }
+        else if (components != null && value instanceof ComponentLike) {
+            String tag = SLOT_TAG_PREFIX + slot;
+            builder.append('<').append(tag).append('>');
+            components.resolver(Placeholder.component(tag, (ComponentLike) value));
+        }
+        else {
+            builder.append(Formatting.formatValue(miniMessage, value));
+        }
+    }
+
+    /**
+     * Finds the closing percent symbol of a placeholder.
+     *
+     * @param text  The text
+     * @param start The index of the opening percent symbol
+     * @return The index of the closing percent symbol, or -1 if this is not a placeholder
+     */
+    static int findPlaceholderEnd(@NotNull String text, int start) {
+        for (int i = start + 1; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == '%') {
+                return i == start + 1 ? -1 : i;
+            }
+            if (Character.isWhitespace(c)) {
+                return -1;
+            }
+        }
+        return -1;
+    }
+}
@@ -20,7 +20,7 @@
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import java.util.Collection;
+import java.util.*;
 import java.util.function.Function;
 import java.util.function.Predicate;
 
@@ -247,6 +247,68 @@ public static void broadcast(@NotNull Collection<CommandSender> senders, @NotNul
         }
     }
 
+    /**
+     * Broadcasts a message to a collection of CommandSenders, rendering it once per group of recipients.
+     * <p>
+     * Recipients are grouped by the key supplied for them, such as their locale or the
+     * inputs to their message. The message is rendered once for each distinct key and
+     * forwarded to every recipient in the group through a single {@link Audience}.
+     *
+     * @param senders           the recipients of the message
+     * @param keyFunction       a function that supplies the render key for each sender, or null to skip the sender
+     * @param componentFunction a function that renders the message for each distinct key
+     */
+    public static <K> void broadcast(@NotNull Collection<? extends CommandSender> senders,
+                                     @NotNull Function<@NotNull CommandSender, @Nullable K> keyFunction,
+                                     @NotNull Function<@NotNull K, @Nullable Component> componentFunction) {
+        broadcast(senders, MessageType.CHAT, keyFunction, componentFunction);
+    }
+
+    /**
+     * Broadcasts a message to a collection of CommandSenders, rendering it once per group of recipients.
+     * <p>
+     * Recipients are grouped by the key supplied for them, such as their locale or the
+     * inputs to their message. The message is rendered once for each distinct key and
+     * forwarded to every recipient in the group through a single {@link Audience}.
+     *
+     * @param senders           the recipients of the message
+     * @param messageType       the type of the message
+     * @param keyFunction       a function that supplies the render key for each sender, or null to skip the sender
+     * @param componentFunction a function that renders the message for each distinct key
+     */
+    public static <K> void broadcast(@NotNull Collection<? extends CommandSender> senders, @NotNull MessageType messageType,
+                                     @NotNull Function<@NotNull CommandSender, @Nullable K> keyFunction,
+                                     @NotNull Function<@NotNull K, @Nullable Component> componentFunction) {
+        if (messageType == MessageType.DISABLED || senders.isEmpty()) {
+            return;
+        }
+
+        // group the recipients by their render key
+        Map<K, List<Audience>> groups = new LinkedHashMap<>();
+        for (CommandSender sender : senders) {
+            K key = keyFunction.apply(sender);
+            if (key != null) {
+                groups.computeIfAbsent(key, k -> new ArrayList<>()).add(wrap(sender));
+            }
+        }
+
+        // render each variant once
+        groups.forEach((key, audiences) -> {
+            Component component = componentFunction.apply(key);
+            if (component == null) {
+                return;
+            }
+
+            Audience audience = audiences.size() == 1 ? audiences.get(0) : Audience.audience(audiences);
+            if (messageType == MessageType.ACTION_BAR) {
+                audience.sendActionBar(component);
+            }
+            else {
+                audience.sendMessage(component);
+            }
+        });
+    }
+
     /**
      * Sends a title and subtitle to a CommandSender.
      *
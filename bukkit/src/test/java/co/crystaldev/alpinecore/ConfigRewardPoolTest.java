@@ -0,0 +1,159 @@
+/*
+ * This file is part of AlpineCore - https://github.com/alpine-network/alpine-core
+ * Copyright (C) 2025 Crystal Development, LLC
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+package co.crystaldev.alpinecore;
+
+import co.crystaldev.alpinecore.framework.config.object.ConfigRewardPool;
+import co.crystaldev.alpinecore.framework.config.object.ConfigRewardPool.DrawMode;
+import co.crystaldev.alpinecore.framework.config.object.ConfigRewardPool.Entry;
+import co.crystaldev.alpinecore.framework.config.object.ConfigRewardPool.Simulation;
+import org.testng.annotations.Test;
+
+import java.lang.reflect.Field;
+import java.util.*;
+
+import static org.testng.Assert.*;
+
+class ConfigRewardPoolTest {
+
+    private static final int DRAWS = 100_000;
+
+    private static final double TOLERANCE = 0.01D;
+
+    // region simulate(EXCLUSIVE)
+    @Test
+    void simulate_exclusive_ratesProportionalToChance() {
+        ConfigRewardPool pool = pool(entry("common", 60.0D), entry("uncommon", 30.0D), entry("rare", 10.0D));
+        Simulation simulation = pool.simulate(DRAWS, DrawMode.EXCLUSIVE, new Random(42L));
+
+        assertEquals(simulation.getRate("common"), 0.6D, TOLERANCE);
+        assertEquals(simulation.getRate("uncommon"), 0.3D, TOLERANCE);
+        assertEquals(simulation.getRate("rare"), 0.1D, TOLERANCE);
+    }
+
+    @Test
+    void simulate_exclusive_grantsExactlyOneReward() {
+        ConfigRewardPool pool = pool(entry("a", 5.0D), entry("b", 15.0D));
+        Simulation simulation = pool.simulate(DRAWS, DrawMode.EXCLUSIVE, new Random(42L));
+
+        assertEquals(simulation.getRewards(), DRAWS);
+        assertEquals(simulation.getExpectedRewards(), 1.0D);
+        assertEquals(simulation.getDistribution(), Collections.singletonMap(1, DRAWS));
+    }
+
+    @Test
+    void simulate_exclusive_ratesIndependentOfTotalChance() {
+        // weights are relative, so chances need not add up to 100
+        ConfigRewardPool pool = pool(entry("a", 1.0D), entry("b", 3.0D));
+        Simulation simulation = pool.simulate(DRAWS, DrawMode.EXCLUSIVE, new Random(42L));
+
+        assertEquals(simulation.getRate("a"), 0.25D, TOLERANCE);
+        assertEquals(simulation.getRate("b"), 0.75D, TOLERANCE);
+    }
+
+    @Test
+    void simulate_exclusive_neverDrawsZeroWeight() {
+        ConfigRewardPool pool = pool(entry("none", 0.0D), entry("a", 50.0D), entry("empty", 0.0D),
+                entry("b", 50.0D), entry("last", 0.0D));
+        Simulation simulation = pool.simulate(DRAWS, DrawMode.EXCLUSIVE, new Random(42L));
+
+        assertEquals((int) simulation.getHits().get("none"), 0);
+        assertEquals((int) simulation.getHits().get("empty"), 0);
+        assertEquals((int) simulation.getHits().get("last"), 0);
+        assertEquals(simulation.getRate("a"), 0.5D, TOLERANCE);
+        assertEquals(simulation.getRate("b"), 0.5D, TOLERANCE);
+        assertEquals(simulation.getRewards(), DRAWS);
+    }
+
+    @Test
+    void simulate_exclusive_withOnlyZeroWeight_grantsNothing() {
+        ConfigRewardPool pool = pool(entry("a", 0.0D), entry("b", 0.0D));
+        Simulation simulation = pool.simulate(DRAWS, DrawMode.EXCLUSIVE, new Random(42L));
+
+        assertEquals(simulation.getRewards(), 0L);
+        assertEquals(simulation.getDistribution(), Collections.singletonMap(0, DRAWS));
+    }
+
+    @Test
+    void simulate_exclusive_withEmptyPool_grantsNothing() {
+        Simulation simulation = pool().simulate(DRAWS, DrawMode.EXCLUSIVE, new Random(42L));
+
+        assertEquals(simulation.getRewards(), 0L);
+        assertTrue(simulation.getHits().isEmpty(), "Empty pool reported hits");
+        assertEquals(simulation.getDistribution(), Collections.singletonMap(0, DRAWS));
+    }
+    // endregion
+
+    // region simulate(INDEPENDENT)
+    @Test
+    void simulate_independent_ratesMatchChance() {
+        ConfigRewardPool pool = pool(entry("always", 100.0D), entry("half", 50.0D), entry("rare", 10.0D));
+        Simulation simulation = pool.simulate(DRAWS, DrawMode.INDEPENDENT, new Random(42L));
+
+        assertEquals(simulation.getRate("always"), 1.0D);
+        assertEquals(simulation.getRate("half"), 0.5D, TOLERANCE);
+        assertEquals(simulation.getRate("rare"), 0.1D, TOLERANCE);
+        assertEquals(simulation.getExpectedRewards(), 1.6D, TOLERANCE * 2);
+    }
+
+    @Test
+    void simulate_independent_withEmptyPool_grantsNothing() {
+        Simulation simulation = pool().simulate(DRAWS, DrawMode.INDEPENDENT, new Random(42L));
+
+        assertEquals(simulation.getRewards(), 0L);
+        assertEquals(simulation.getDistribution(), Collections.singletonMap(0, DRAWS));
+    }
+    // endregion
+
+    // region simulate()
+    @Test
+    void simulate_withSameSeed_isReproducible() {
+        ConfigRewardPool pool = pool(entry("a", 20.0D), entry("b", 30.0D), entry("c", 50.0D));
+        for (DrawMode mode : DrawMode.values()) {
+            Simulation first = pool.simulate(1_000, mode, new Random(7L));
+            Simulation second = pool.simulate(1_000, mode, new Random(7L));
+
+            assertEquals(first.getHits(), second.getHits());
+            assertEquals(first.getDistribution(), second.getDistribution());
+        }
+    }
+
+    @Test
+    void simulate_withNoDraws_thenFail() {
+        assertThrows(IllegalArgumentException.class, () -> pool(entry("a", 1.0D)).simulate(0, DrawMode.EXCLUSIVE));
+    }
+    // endregion
+
+    private static ConfigRewardPool pool(Entry... entries) {
+        return new ConfigRewardPool(new ArrayList<>(Arrays.asList(entries)));
+    }
+
+    private static Entry entry(String name, double chance) {
+        if (chance > 0.0D) {
+            return new Entry(name, chance, Collections.emptyList());
+        }
+
+        // the constructor rejects zero weights, which may still be loaded from a configuration
+        try {
+            Entry entry = new Entry();
+            set(entry, "name", name);
+            set(entry, "chance", chance);
+            set(entry, "commands", Collections.emptyList());
+            return entry;
+        }
+        catch (ReflectiveOperationException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    private static void set(Entry entry, String name, Object value) throws ReflectiveOperationException {
+        Field field = Entry.class.getDeclaredField(name);
+        field.setAccessible(true);
+        field.set(entry, value);
+    }
+}
@@ -0,0 +1,137 @@
+/*
+ * This file is part of AlpineCore - https://github.com/alpine-network/alpine-core
+ * Copyright (C) 2025 Crystal Development, LLC
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+package co.crystaldev.alpinecore;
+
+import co.crystaldev.alpinecore.util.Formatting;
+import co.crystaldev.alpinecore.util.MessageTemplate;
+import net.kyori.adventure.text.minimessage.MiniMessage;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.util.*;
+
+import static org.testng.Assert.*;
+
+class MessageTemplateTest {
+
+    private static final MiniMessage MINI_MESSAGE = MiniMessage.miniMessage();
+
+    /**
+     * Placeholders are listed in the order they appear, as the result
+     * of replacing them in turn depended on the order they were given.
+     */
+    @DataProvider
+    Object[][] templates() {
+        return new Object[][] {
+                // overlapping placeholders
+                { "a%b%c%d%", new Object[] { "b", "X" } },
+                { "a%b%c%d%", new Object[] { "c", "X" } },
+                { "a%b%c%d%", new Object[] { "d", "X" } },
+                { "a%b%c%d%", new Object[] { "b", "X", "c", "Y" } },
+                { "a%b%c%d%", new Object[] { "c", "X", "d", "Y" } },
+                { "a%b%c%d%", new Object[] { "b", "X", "d", "Y" } },
+                { "a%b%c%d%", new Object[] { "b", "X", "c", "Y", "d", "Z" } },
+                { "%x%a%y%", new Object[] { "a", "X" } },
+                { "%x%a%y%", new Object[] { "x", "X", "y", "Y" } },
+
+                // unknown keys
+                { "Hello %player%, you have %unknown% coins", new Object[] { "player", "Steve" } },
+                { "%unknown%", new Object[] { "player", "Steve" } },
+                { "%player% %unknown% %player%", new Object[] { "player", "Steve" } },
+
+                // adjacent and empty placeholders
+                { "%%", new Object[] { "a", "X" } },
+                { "100%%", new Object[] { "a", "X" } },
+                { "%%a%%", new Object[] { "a", "X" } },
+                { "%%%a%%%", new Object[] { "a", "X" } },
+                { "%a%%b%", new Object[] { "a", "X", "b", "Y" } },
+                { "%a%%b%", new Object[] { "b", "Y" } },
+
+                // unterminated and whitespace
+                { "50% off %item%", new Object[] { "item", "Sword" } },
+                { "% a % %a%", new Object[] { "a", "X" } },
+                { "%a", new Object[] { "a", "X" } },
+                { "a%", new Object[] { "a", "X" } },
+                { "%", new Object[] { "a", "X" } },
+
+                // no placeholders
+                { "", new Object[] { "a", "X" } },
+                { "plain text", new Object[] { "a", "X" } },
+                { "%a%", new Object[0] },
+        };
+    }
+
+    // region render()
+    @Test(dataProvider = "templates")
+    void render_withPairs_matchesLegacy(String text, Object[] placeholders) {
+        String expected = legacyPlaceholders(text, placeholders);
+
+        assertEquals(MessageTemplate.compile(text).render(MINI_MESSAGE, placeholders), expected);
+        assertEquals(Formatting.placeholders(MINI_MESSAGE, text, placeholders), expected);
+    }
+
+    @Test(dataProvider = "templates")
+    void render_withMap_matchesLegacy(String text, Object[] placeholders) {
+        Map<String, Object> map = new LinkedHashMap<>();
+        for (int i = 0; i + 1 < placeholders.length; i += 2) {
+            map.put((String) placeholders[i], placeholders[i + 1]);
+        }
+        String expected = legacyPlaceholders(text, placeholders);
+
+        assertEquals(MessageTemplate.compile(text).render(MINI_MESSAGE, map), expected);
+        assertEquals(Formatting.placeholders(MINI_MESSAGE, text, map), expected);
+    }
+
+    @Test
+    void render_withOverlappingPlaceholders_replacesLaterPlaceholder() {
+        assertEquals(MessageTemplate.compile("a%b%c%d%").render(MINI_MESSAGE, "c", "X"), "a%bXd%");
+    }
+
+    @Test
+    void render_withFormattedValues_matchesFormatting() {
+        Object[] placeholders = { "double", 1.2345D, "bool", true, "int", 7 };
+        String text = "%bool% %int% %missing% %double%";
+        String rendered = MessageTemplate.compile(text).render(MINI_MESSAGE, placeholders);
+
+        assertEquals(rendered, Formatting.placeholders(MINI_MESSAGE, text, placeholders));
+        assertTrue(rendered.startsWith("True 7 %missing% "), "Unexpected rendered text " + rendered);
+    }
+    // endregion
+
+    // region compile()
+    @Test
+    void compile_withVariables_substitutesBeforeCompiling() {
+        MessageTemplate template = MessageTemplate.compile("%prefix% %a%", Collections.singletonMap("prefix", "[%a%]"));
+
+        assertTrue(template.hasPlaceholders());
+        assertEquals(template.render(MINI_MESSAGE, "a", "X"), "[X] X");
+    }
+
+    @Test
+    void compile_withoutPlaceholders_hasNoPlaceholders() {
+        assertFalse(MessageTemplate.compile("100%% % a %").hasPlaceholders());
+        assertTrue(MessageTemplate.compile("%a%").hasPlaceholders());
+    }
+    // endregion
+
+    /**
+     * Replaces each placeholder in turn, as Formatting did before
+     * placeholders were replaced in a single pass.
+     */
+    private static String legacyPlaceholders(String text, Object[] placeholders) {
+        if (placeholders.length < 2) {
+            return text;
+        }
+
+        for (int i = 0; i < (placeholders.length / 2) * 2; i += 2) {
+            text = text.replace("%" + placeholders[i] + "%", placeholders[i + 1].toString());
+        }
+        return text;
+    }
+}
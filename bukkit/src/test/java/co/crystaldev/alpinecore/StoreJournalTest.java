@@ -0,0 +1,358 @@
+/*
+ * This file is part of AlpineCore - https://github.com/alpine-network/alpine-core
+ * Copyright (C) 2025 Crystal Development, LLC
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+package co.crystaldev.alpinecore;
+
+import co.crystaldev.alpinecore.framework.storage.StoreJournal;
+import com.google.gson.Gson;
+import org.bukkit.Server;
+import org.bukkit.plugin.PluginDescriptionFile;
+import org.bukkit.plugin.PluginLogger;
+import org.bukkit.plugin.java.JavaPlugin;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import sun.misc.Unsafe;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.lang.reflect.Field;
+import java.lang.reflect.Proxy;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.util.*;
+import java.util.logging.Handler;
+import java.util.logging.LogRecord;
+import java.util.logging.Logger;
+
+import static org.testng.Assert.*;
+
+class StoreJournalTest {
+
+    private static final int HEADER_SIZE = Integer.BYTES * 2 + Long.BYTES;
+
+    /** The offset of the generation and the offset of its first record */
+    private static final int STATE_OFFSET = Integer.BYTES * 2;
+
+    private File file;
+
+    @BeforeMethod
+    void createFile() throws IOException {
+        this.file = Files.createTempFile("journal", ".dat").toFile();
+        assertTrue(this.file.delete(), "Unable to delete temporary journal");
+    }
+
+    @AfterMethod
+    void deleteFile() {
+        this.file.delete();
+    }
+
+    // region replay
+    @Test
+    void open_afterClose_replaysInOrder() throws IOException {
+        StoreJournal<String, Integer> journal = this.journal();
+        assertEquals(journal.open((k, v) -> fail("Replayed a new journal"), k -> fail("Replayed a new journal")), 0);
+
+        journal.appendPut("a", 1);
+        journal.appendPut("b", 2);
+        journal.appendRemove("a");
+        journal.close();
+
+        List<String> replayed = this.replay();
+        assertEquals(replayed, Arrays.asList("put a=1", "put b=2", "remove a"));
+    }
+
+    @Test
+    void open_afterReplay_appendsAfterReplayedRecords() throws IOException {
+        StoreJournal<String, Integer> journal = this.journal();
+        journal.open((k, v) -> { }, k -> { });
+        journal.appendPut("a", 1);
+        journal.close();
+
+        journal = this.journal();
+        journal.open((k, v) -> { }, k -> { });
+        journal.appendPut("b", 2);
+        journal.close();
+
+        assertEquals(this.replay(), Arrays.asList("put a=1", "put b=2"));
+    }
+
+    @Test
+    void append_whenClosed_isIgnored() throws IOException {
+        StoreJournal<String, Integer> journal = this.journal();
+        assertFalse(journal.isOpen());
+        journal.appendPut("a", 1);
+        journal.truncate(journal.mark());
+
+        journal.open((k, v) -> { }, k -> { });
+        assertTrue(journal.isOpen());
+        journal.close();
+        assertFalse(journal.isOpen());
+
+        assertTrue(this.replay().isEmpty(), "Replayed a record appended while closed");
+    }
+    // endregion
+
+    // region truncate()
+    @Test
+    void truncate_atMark_discardsEarlierRecords() throws IOException {
+        StoreJournal<String, Integer> journal = this.journal();
+        journal.open((k, v) -> { }, k -> { });
+
+        journal.appendPut("a", 1);
+        journal.appendPut("b", 2);
+        long mark = journal.mark();
+        journal.appendPut("c", 3);
+        journal.appendRemove("b");
+        journal.truncate(mark);
+        journal.close();
+
+        assertEquals(this.replay(), Arrays.asList("put c=3", "remove b"));
+    }
+
+    @Test
+    void truncate_atLatestMark_discardsEverything() throws IOException {
+        StoreJournal<String, Integer> journal = this.journal();
+        journal.open((k, v) -> { }, k -> { });
+
+        journal.appendPut("a", 1);
+        journal.appendPut("b", 2);
+        journal.truncate(journal.mark());
+        journal.close();
+
+        assertTrue(this.replay().isEmpty(), "Replayed a truncated record");
+    }
+
+    @Test
+    void truncate_repeatedly_keepsOnlyLatestRecords() throws IOException {
+        StoreJournal<String, Integer> journal = this.journal();
+        journal.open((k, v) -> { }, k -> { });
+
+        for (int i = 0; i < 10; i++) {
+            journal.appendPut("key" + i, i);
+            journal.truncate(journal.mark());
+        }
+        journal.appendPut("last", 10);
+        journal.close();
+
+        assertEquals(this.replay(), Collections.singletonList("put last=10"));
+    }
+
+    @Test
+    void truncate_withRetainedRecords_keepsRecordsAcrossTruncations() throws IOException {
+        StoreJournal<String, Integer> journal = this.journal();
+        journal.open((k, v) -> { }, k -> { });
+
+        // retained records alternate between the start and the end of the file
+        for (int i = 0; i < 10; i++) {
+            journal.appendPut("key" + i, i);
+            long mark = journal.mark();
+            journal.appendPut("next" + i, i);
+            journal.truncate(mark);
+        }
+        journal.close();
+
+        assertEquals(this.replay(), Collections.singletonList("put next9=9"));
+    }
+
+    @Test
+    void open_beforeGenerationSwitch_replaysPreviousGeneration() throws IOException {
+        StoreJournal<String, Integer> journal = this.journal();
+        journal.open((k, v) -> { }, k -> { });
+        long state = this.readState();
+
+        journal.appendPut("a", 1);
+        long mark = journal.mark();
+        journal.appendPut("b", 2);
+        journal.truncate(mark);
+        journal.close();
+        assertEquals(this.replay(), Collections.singletonList("put b=2"));
+
+        // as if the process died after the retained records were written
+        try (RandomAccessFile raf = new RandomAccessFile(this.file, "rw")) {
+            raf.seek(STATE_OFFSET);
+            raf.writeLong(state);
+        }
+
+        assertEquals(this.replay(), Arrays.asList("put a=1", "put b=2"));
+    }
+    // endregion
+
+    // region corruption
+    @Test
+    void open_withCorruptedChecksum_stopsAtCorruptedRecord() throws IOException {
+        StoreJournal<String, Integer> journal = this.journal();
+        journal.open((k, v) -> { }, k -> { });
+        journal.appendPut("a", 1);
+        journal.appendPut("b", 2);
+        journal.close();
+
+        try (RandomAccessFile raf = new RandomAccessFile(this.file, "rw")) {
+            // skip the first record to reach the checksum of the second
+            raf.seek(HEADER_SIZE);
+            int length = raf.readInt();
+            long checksum = HEADER_SIZE + Integer.BYTES * 2 + length + Integer.BYTES;
+            raf.seek(checksum);
+            int value = raf.readInt();
+            raf.seek(checksum);
+            raf.writeInt(~value);
+        }
+
+        assertEquals(this.replay(), Collections.singletonList("put a=1"));
+    }
+
+    @Test
+    void open_withCorruptedPayload_stopsAtCorruptedRecord() throws IOException {
+        StoreJournal<String, Integer> journal = this.journal();
+        journal.open((k, v) -> { }, k -> { });
+        journal.appendPut("a", 1);
+        journal.appendPut("b", 2);
+        journal.close();
+
+        try (RandomAccessFile raf = new RandomAccessFile(this.file, "rw")) {
+            // flip the last byte of the second record, as a torn write would leave it
+            raf.seek(HEADER_SIZE);
+            int first = raf.readInt();
+            long second = HEADER_SIZE + Integer.BYTES * 2 + first;
+            raf.seek(second);
+            int length = raf.readInt();
+            long last = second + Integer.BYTES * 2 + length - 1;
+            raf.seek(last);
+            int value = raf.read();
+            raf.seek(last);
+            raf.write(value ^ 0xFF);
+        }
+
+        assertEquals(this.replay(), Collections.singletonList("put a=1"));
+    }
+    // endregion
+
+    // region failure
+    @Test(timeOut = 10_000L)
+    void close_afterFailedBatch_returns() throws Exception {
+        List<LogRecord> errors = new ArrayList<>();
+        StoreJournal<String, Integer> journal = this.journal(64, plugin(errors));
+        journal.open((k, v) -> { }, k -> { });
+        closeChannel(journal);
+
+        // too large for the initial mapping, so remapping the closed channel fails
+        journal.appendPut(repeat('a', 256), 1);
+        journal.appendPut("b", 2);
+        journal.close();
+
+        assertFalse(journal.isOpen());
+        assertFalse(errors.isEmpty(), "Failed write was not logged");
+        assertTrue(this.replay().isEmpty(), "Replayed a record from a failed batch");
+    }
+
+    @Test(timeOut = 10_000L)
+    void truncate_afterFailedBatch_resumesJournaling() throws Exception {
+        List<LogRecord> errors = new ArrayList<>();
+        StoreJournal<String, Integer> journal = this.journal(64, plugin(errors));
+        journal.open((k, v) -> { }, k -> { });
+        closeChannel(journal);
+
+        journal.appendPut(repeat('a', 256), 1);
+        journal.appendPut("b", 2);
+        journal.truncate(journal.mark());
+        journal.appendPut("c", 3);
+        journal.close();
+
+        assertFalse(errors.isEmpty(), "Failed write was not logged");
+        assertEquals(this.replay(), Collections.singletonList("put c=3"));
+    }
+    // endregion
+
+    private StoreJournal<String, Integer> journal() {
+        // the plugin is only used to log errors
+        return this.journal(4096, null);
+    }
+
+    private StoreJournal<String, Integer> journal(int initialSize, AlpinePlugin plugin) {
+        return StoreJournal.<String, Integer>builder()
+                .file(this.file)
+                .gson(new Gson())
+                .keyType(String.class)
+                .dataType(Integer.class)
+                .initialSize(initialSize)
+                .build(plugin);
+    }
+
+    private long readState() throws IOException {
+        try (RandomAccessFile raf = new RandomAccessFile(this.file, "r")) {
+            raf.seek(STATE_OFFSET);
+            return raf.readLong();
+        }
+    }
+
+    private List<String> replay() throws IOException {
+        List<String> replayed = new ArrayList<>();
+        StoreJournal<String, Integer> journal = this.journal();
+        int count = journal.open((k, v) -> replayed.add("put " + k + "=" + v), k -> replayed.add("remove " + k));
+        journal.close();
+
+        assertEquals(count, replayed.size());
+        return replayed;
+    }
+
+    /**
+     * Creates a plugin which collects the errors it logs, as a plugin
+     * cannot otherwise be constructed outside of a server.
+     */
+    private static AlpinePlugin plugin(List<LogRecord> errors) throws ReflectiveOperationException {
+        Logger logger = Logger.getAnonymousLogger();
+        logger.setUseParentHandlers(false);
+        logger.addHandler(new Handler() {
+            @Override
+            public synchronized void publish(LogRecord record) {
+                errors.add(record);
+            }
+
+            @Override
+            public void flush() {
+            }
+
+            @Override
+            public void close() {
+            }
+        });
+
+        Field unsafe = Unsafe.class.getDeclaredField("theUnsafe");
+        unsafe.setAccessible(true);
+        AlpinePlugin plugin = (AlpinePlugin) ((Unsafe) unsafe.get(null)).allocateInstance(TestPlugin.class);
+
+        Server server = (Server) Proxy.newProxyInstance(Server.class.getClassLoader(), new Class<?>[] { Server.class },
+                (proxy, method, args) -> method.getName().equals("getLogger") ? logger : null);
+        setPluginField(plugin, "server", server);
+        setPluginField(plugin, "description", new PluginDescriptionFile("Test", "1.0", TestPlugin.class.getName()));
+        setPluginField(plugin, "logger", new PluginLogger(plugin));
+        return plugin;
+    }
+
+    private static void setPluginField(AlpinePlugin plugin, String name, Object value) throws ReflectiveOperationException {
+        Field field = JavaPlugin.class.getDeclaredField(name);
+        field.setAccessible(true);
+        field.set(plugin, value);
+    }
+
+    private static void closeChannel(StoreJournal<?, ?> journal) throws ReflectiveOperationException, IOException {
+        Field field = StoreJournal.class.getDeclaredField("channel");
+        field.setAccessible(true);
+        ((FileChannel) field.get(journal)).close();
+    }
+
+    private static String repeat(char c, int count) {
+        char[] chars = new char[count];
+        Arrays.fill(chars, c);
+        return new String(chars);
+    }
+
+    private static final class TestPlugin extends AlpinePlugin {
+    }
+}
@@ -0,0 +1,263 @@
+/*
+ * This file is part of AlpineCore - https://github.com/alpine-network/alpine-core
+ * Copyright (C) 2025 Crystal Development, LLC
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+package co.crystaldev.alpinecore.util;
+
+import org.testng.annotations.Test;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.*;
+
+import static org.testng.Assert.*;
+
+class MessageRateLimiterTest {
+
+    private static final long DURATION = 1_000L;
+
+    /** An arbitrary wall clock time at which each test starts */
+    private static final long START = 1_700_000_000_000L;
+
+    /** The initial capacity of the key table */
+    private static final int CAPACITY = 256;
+
+    /** The number of slots in the timing wheel */
+    private static final int WHEEL_SLOTS = 64;
+
+    // region tryAcquire()
+    @Test
+    void tryAcquire_withinDuration_returnsFalse() {
+        MessageRateLimiter limiter = new MessageRateLimiter(DURATION);
+
+        assertTrue(limiter.tryAcquire(1L, START));
+        assertFalse(limiter.tryAcquire(1L, START + 1L));
+        assertFalse(limiter.tryAcquire(1L, START + DURATION - 1L));
+    }
+
+    @Test
+    void tryAcquire_afterDuration_returnsTrue() {
+        MessageRateLimiter limiter = new MessageRateLimiter(DURATION);
+
+        assertTrue(limiter.tryAcquire(1L, START));
+        assertTrue(limiter.tryAcquire(1L, START + DURATION));
+        assertFalse(limiter.tryAcquire(1L, START + DURATION + 1L));
+        assertTrue(limiter.tryAcquire(1L, START + DURATION * 2));
+    }
+
+    @Test
+    void tryAcquire_withDistinctKeys_isIndependent() {
+        MessageRateLimiter limiter = new MessageRateLimiter(DURATION);
+
+        assertTrue(limiter.tryAcquire(1L, START));
+        assertTrue(limiter.tryAcquire(2L, START));
+        assertFalse(limiter.tryAcquire(1L, START + 10L));
+        assertFalse(limiter.tryAcquire(2L, START + 10L));
+        assertTrue(limiter.tryAcquire(3L, START + 10L));
+    }
+
+    @Test
+    void tryAcquire_withZeroKey_isTracked() {
+        // zero marks empty buckets by expiry rather than by key
+        MessageRateLimiter limiter = new MessageRateLimiter(DURATION);
+
+        assertTrue(limiter.tryAcquire(0L, START));
+        assertFalse(limiter.tryAcquire(0L, START + 10L));
+    }
+    // endregion
+
+    // region collisions
+    @Test
+    void tryAcquire_withCollidingKeys_tracksEachKey() throws ReflectiveOperationException {
+        MessageRateLimiter limiter = new MessageRateLimiter(DURATION);
+        long[] keys = collidingKeys(8);
+
+        for (long key : keys) {
+            assertTrue(limiter.tryAcquire(key, START));
+        }
+        for (long key : keys) {
+            assertFalse(limiter.tryAcquire(key, START + 10L), "Colliding key was not tracked");
+        }
+        assertEquals(size(limiter), keys.length);
+    }
+
+    @Test
+    void sweep_withCollidingKeys_keepsProbeSequence() throws ReflectiveOperationException {
+        MessageRateLimiter limiter = new MessageRateLimiter(DURATION);
+        long[] keys = collidingKeys(8);
+        for (int i = 0; i < keys.length; i++) {
+            assertTrue(limiter.tryAcquire(keys[i], START + i));
+        }
+
+        // every other key is sent again, so removing the others leaves gaps in the probe sequence
+        for (int i = 1; i < keys.length; i += 2) {
+            assertTrue(limiter.tryAcquire(keys[i], START + DURATION + i));
+        }
+
+        long now = START + DURATION + DURATION / 4;
+        assertTrue(limiter.tryAcquire(-1L, now));
+        assertEquals(size(limiter), keys.length / 2 + 1, "Expired keys were not removed");
+
+        for (int i = 1; i < keys.length; i += 2) {
+            assertFalse(limiter.tryAcquire(keys[i], now), "Key was lost after removing a colliding key");
+        }
+        for (int i = 0; i < keys.length; i += 2) {
+            assertTrue(limiter.tryAcquire(keys[i], now), "Expired key was still tracked");
+        }
+    }
+
+    @Test
+    void tryAcquire_beyondCapacity_tracksEveryKey() throws ReflectiveOperationException {
+        MessageRateLimiter limiter = new MessageRateLimiter(DURATION);
+        int count = CAPACITY * 8;
+
+        for (int i = 0; i < count; i++) {
+            assertTrue(limiter.tryAcquire(MessageRateLimiter.key(i, 42L), START));
+        }
+        for (int i = 0; i < count; i++) {
+            assertFalse(limiter.tryAcquire(MessageRateLimiter.key(i, 42L), START + 10L), "Key was lost when resizing");
+        }
+        assertEquals(size(limiter), count);
+    }
+    // endregion
+
+    // region expiry
+    @Test
+    void sweep_afterDuration_removesExpiredKeys() throws ReflectiveOperationException {
+        MessageRateLimiter limiter = new MessageRateLimiter(DURATION);
+        for (int i = 0; i < 100; i++) {
+            limiter.tryAcquire(i, START);
+        }
+
+        limiter.tryAcquire(-1L, START + DURATION * 2);
+        assertEquals(size(limiter), 1);
+    }
+
+    @Test
+    void sweep_beforeSlotPassed_keepsKeys() throws ReflectiveOperationException {
+        MessageRateLimiter limiter = new MessageRateLimiter(DURATION);
+        for (int i = 0; i < 100; i++) {
+            limiter.tryAcquire(i, START);
+        }
+
+        limiter.tryAcquire(-1L, START + DURATION - 1L);
+        assertEquals(size(limiter), 101);
+    }
+
+    @Test
+    void sweep_afterResend_keepsResentKey() throws ReflectiveOperationException {
+        MessageRateLimiter limiter = new MessageRateLimiter(DURATION);
+        assertTrue(limiter.tryAcquire(1L, START));
+        assertTrue(limiter.tryAcquire(1L, START + DURATION));
+
+        // the slot of the first expiry is swept, but the key now expires later
+        limiter.tryAcquire(-1L, START + DURATION + DURATION / 2);
+        assertFalse(limiter.tryAcquire(1L, START + DURATION + DURATION / 2));
+        assertEquals(size(limiter), 2);
+    }
+    // endregion
+
+    // region wrap-around
+    @Test
+    void sweep_afterSeveralRotations_removesExpiredKeys() throws ReflectiveOperationException {
+        MessageRateLimiter limiter = new MessageRateLimiter(DURATION);
+        for (int i = 0; i < 100; i++) {
+            limiter.tryAcquire(i, START);
+        }
+
+        // skip far beyond a single rotation of the wheel
+        long now = START + DURATION * WHEEL_SLOTS * 3;
+        limiter.tryAcquire(-1L, now);
+        assertEquals(size(limiter), 1);
+
+        for (int i = 0; i < 100; i++) {
+            assertTrue(limiter.tryAcquire(i, now));
+        }
+    }
+
+    @Test
+    void tryAcquire_acrossRotations_matchesReference() throws ReflectiveOperationException {
+        MessageRateLimiter limiter = new MessageRateLimiter(DURATION);
+        Map<Long, Long> expiries = new HashMap<>();
+        Random random = new Random(42L);
+
+        // few enough keys to be resent often, over many rotations of the wheel
+        long now = START;
+        for (int i = 0; i < 200_000; i++) {
+            now += random.nextInt(8);
+            long key = MessageRateLimiter.key(random.nextInt(600), random.nextInt(2));
+
+            Long expiry = expiries.get(key);
+            boolean expected = expiry == null || now >= expiry;
+            if (expected) {
+                expiries.put(key, now + DURATION);
+            }
+
+            assertEquals(limiter.tryAcquire(key, now), expected, "Mismatch for key " + key + " at " + now);
+        }
+
+        // every key expires during a long pause
+        limiter.tryAcquire(-1L, now + DURATION * 2);
+        assertEquals(size(limiter), 1);
+    }
+
+    @Test
+    void tryAcquire_withShortDuration_matchesReference() {
+        // a duration shorter than the wheel gives every slot a width of one
+        MessageRateLimiter limiter = new MessageRateLimiter(10L);
+        Map<Long, Long> expiries = new HashMap<>();
+        Random random = new Random(7L);
+
+        long now = START;
+        for (int i = 0; i < 50_000; i++) {
+            now += random.nextInt(3);
+            long key = random.nextInt(50);
+
+            Long expiry = expiries.get(key);
+            boolean expected = expiry == null || now >= expiry;
+            if (expected) {
+                expiries.put(key, now + 10L);
+            }
+
+            assertEquals(limiter.tryAcquire(key, now), expected, "Mismatch for key " + key + " at " + now);
+        }
+    }
+    // endregion
+
+    // region key()
+    @Test
+    void key_withDistinctRecipients_returnsDistinctKeys() {
+        assertNotEquals(MessageRateLimiter.key(1, 5L), MessageRateLimiter.key(2, 5L));
+        assertNotEquals(MessageRateLimiter.key(1, 5L), MessageRateLimiter.key(1, 6L));
+        assertEquals(MessageRateLimiter.key(1, 5L), MessageRateLimiter.key(1, 5L));
+    }
+    // endregion
+
+    /**
+     * Finds keys which share the same home bucket in a table of the initial capacity.
+     */
+    private static long[] collidingKeys(int count) throws ReflectiveOperationException {
+        Method mix = MessageRateLimiter.class.getDeclaredMethod("mix", long.class);
+        mix.setAccessible(true);
+
+        long[] keys = new long[count];
+        int found = 0;
+        int bucket = (int) mix.invoke(null, 1L) & (CAPACITY - 1);
+        for (long key = 1L; found < count; key++) {
+            if (((int) mix.invoke(null, key) & (CAPACITY - 1)) == bucket) {
+                keys[found++] = key;
+            }
+        }
+        return keys;
+    }
+
+    private static int size(MessageRateLimiter limiter) throws ReflectiveOperationException {
+        Field field = MessageRateLimiter.class.getDeclaredField("size");
+        field.setAccessible(true);
+        return field.getInt(limiter);
+    }
+}